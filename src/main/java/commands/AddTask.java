@@ -2,12 +2,13 @@ package commands;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.List;
 
 import exception.PiggyException;
 import tasks.Deadline;
 import tasks.Event;
 import tasks.Task;
+import tasks.TaskList;
 import tasks.ToDo;
 
 
@@ -25,22 +26,31 @@ public class AddTask {
      * @return A success message confirming the addition.
      * @throws PiggyException If the task description is missing.
      */
-    public static String todo(String userInput, ArrayList<Task> taskList) throws PiggyException {
+    public static String todo(String userInput, TaskList taskList) throws PiggyException {
         assert userInput != null : "User input should never be null in AddTask.todo()";
+        return todo(CommandLine.parse(userInput), taskList);
+    }
+
+    /**
+     * Adds a ToDo type task to the task list, reading the description from an already tokenized line.
+     *
+     * @param commandLine The tokenized user command containing the task description.
+     * @param taskList The list where the new task will be added.
+     * @return A success message confirming the addition.
+     * @throws PiggyException If the task description is missing.
+     */
+    public static String todo(CommandLine commandLine, TaskList taskList) throws PiggyException {
         assert taskList != null : "Task list should never be null in AddTask.todo()";
 
-        if (userInput.length() <= 5) {
-            throw new PiggyException("You forgot to mention what the task is.");
-        }
-        String taskName = userInput.substring(5).trim();
+        CharSequence taskName = commandLine.getArguments();
         validateNonEmpty(taskName, "You forgot to mention what the task is.");
-        Task newTask = new ToDo(taskName);
-        if (isDuplicate(newTask, taskList)) {
+        Task newTask = new ToDo(taskName.toString());
+        if (taskList.isDuplicateTask(newTask)) {
             throw new PiggyException("This task already exists in your list!");
         }
         taskList.add(newTask);
 
-        assert taskList.contains(newTask) : "Task should be successfully added to taskList in AddTask.todo()";
+        assert taskList.isDuplicateTask(newTask) : "Task should be successfully added to taskList in AddTask.todo()";
         return taskAddedMsg(newTask, taskList.size());
     }
 
@@ -52,27 +62,40 @@ public class AddTask {
      * @return A success message confirming the addition.
      * @throws PiggyException If the task description or deadline is missing or incorrectly formatted.
      */
-    public static String deadline(String userInput, ArrayList<Task> taskList) throws PiggyException {
+    public static String deadline(String userInput, TaskList taskList) throws PiggyException {
         assert userInput != null : "User input should never be null in AddTask.deadline()";
+        return deadline(CommandLine.parse(userInput), taskList);
+    }
+
+    /**
+     * Adds a Deadline type task to the task list, reading its parts from an already tokenized line.
+     *
+     * @param commandLine The tokenized user command containing the task and due date.
+     * @param taskList The list where the new task will be added.
+     * @return A success message confirming the addition.
+     * @throws PiggyException If the task description or deadline is missing or incorrectly formatted.
+     */
+    public static String deadline(CommandLine commandLine, TaskList taskList) throws PiggyException {
         assert taskList != null : "Task list should never be null in AddTask.deadline()";
-        if (!userInput.contains("/by")) {
+        int dueDateIndex = commandLine.getFlagOffset("/by");
+        if (dueDateIndex < 0) {
             throw new PiggyException("You forgot to mention when the task is due.");
         }
-        int dueDateIndex = userInput.indexOf("/by");
-        String taskName = userInput.substring(9, dueDateIndex).trim();
-        String dueDateStr = userInput.substring(dueDateIndex + 3).trim();
+        CharSequence taskName = commandLine.slice(commandLine.getArgumentStart(), dueDateIndex);
+        CharSequence dueDateStr = commandLine.slice(dueDateIndex + 3, commandLine.getEnd());
         validateNonEmpty(taskName, "You forgot to mention what the task is.");
         validateNonEmpty(dueDateStr, "You forgot to mention when the deadline is.");
 
         try {
             LocalDateTime dueDate = LocalDateTime.parse(dueDateStr, INPUT_FORMATTER);
             assert dueDate != null : "Parsed dueDate should not be null";
-            Task newTask = new Deadline(taskName, dueDate);
-            if (isDuplicate(newTask, taskList)) {
+            Task newTask = new Deadline(taskName.toString(), dueDate);
+            if (taskList.isDuplicateTask(newTask)) {
                 throw new PiggyException("This deadline already exists in your list!");
             }
             taskList.add(newTask);
-            assert taskList.contains(newTask) : "Task should be successfully added to taskList in AddTask.deadline()";
+            assert taskList.isDuplicateTask(newTask)
+                    : "Task should be successfully added to taskList in AddTask.deadline()";
             return taskAddedMsg(newTask, taskList.size());
         } catch (Exception e) {
             throw new PiggyException("Invalid date format! Try again and use: d/M/yyyy HHmm (e.g., 2/12/2019 1800).");
@@ -80,24 +103,39 @@ public class AddTask {
     }
 
     /**
-     * Adds an Event type task to the task list.
+     * Adds an Event type task to the task list, warning about any events it clashes with.
      *
      * @param userInput The full user command containing the task, start time, and end time.
      * @param taskList The list where the new task will be added.
      * @return A success message confirming the addition.
      * @throws PiggyException If the task description, start time, or end time is missing or incorrectly formatted.
      */
-    public static String event(String userInput, ArrayList<Task> taskList) throws PiggyException {
+    public static String event(String userInput, TaskList taskList) throws PiggyException {
         assert userInput != null : "User input should never be null in AddTask.event()";
+        return event(CommandLine.parse(userInput), taskList);
+    }
+
+    /**
+     * Adds an Event type task to the task list, reading its parts from an already tokenized line.
+     *
+     * @param commandLine The tokenized user command containing the task, start time, and end time.
+     * @param taskList The list where the new task will be added.
+     * @return A success message confirming the addition.
+     * @throws PiggyException If the task description, start time, or end time is missing or incorrectly formatted.
+     */
+    public static String event(CommandLine commandLine, TaskList taskList) throws PiggyException {
         assert taskList != null : "Task list should never be null in AddTask.event()";
-        if (!userInput.contains("/from") || !userInput.contains("/to")) {
+        int fromIndex = commandLine.getFlagOffset("/from");
+        int toIndex = commandLine.getFlagOffset("/to");
+        if (fromIndex < 0 || toIndex < 0) {
             throw new PiggyException("You forgot to mention when the event starts/ends.");
         }
-        int fromIndex = userInput.indexOf("/from");
-        int toIndex = userInput.indexOf("/to");
-        String taskName = userInput.substring(6, fromIndex).trim();
-        String startTimeStr = userInput.substring(fromIndex + 5, toIndex).trim();
-        String endTimeStr = userInput.substring(toIndex + 3).trim();
+        if (toIndex < fromIndex) {
+            throw new PiggyException("Put when the event starts (/from) before when it ends (/to).");
+        }
+        CharSequence taskName = commandLine.slice(commandLine.getArgumentStart(), fromIndex);
+        CharSequence startTimeStr = commandLine.slice(fromIndex + 5, toIndex);
+        CharSequence endTimeStr = commandLine.slice(toIndex + 3, commandLine.getEnd());
         validateNonEmpty(taskName, "You forgot to mention what the event is.");
         validateNonEmpty(startTimeStr, "You forgot to mention when the event starts.");
         validateNonEmpty(endTimeStr, "You forgot to mention when the event ends.");
@@ -108,28 +146,47 @@ public class AddTask {
             if (!startTime.isBefore(endTime)) {
                 throw new PiggyException("Event start time must be before end time.");
             }
-            Task newTask = new Event(taskName, startTime, endTime);
-            if (isDuplicate(newTask, taskList)) {
+            Task newTask = new Event(taskName.toString(), startTime, endTime);
+            if (taskList.isDuplicateTask(newTask)) {
                 throw new PiggyException("This event already exists in your list!");
             }
+            List<Event> conflicts = FreeTime.findConflicts(taskList, startTime, endTime);
             taskList.add(newTask);
-            assert taskList.contains(newTask) : "Task should be successfully added to taskList in AddTask.event()";
-            return taskAddedMsg(newTask, taskList.size());
+            assert taskList.isDuplicateTask(newTask)
+                    : "Task should be successfully added to taskList in AddTask.event()";
+            return taskAddedMsg(newTask, taskList.size()) + conflictWarning(conflicts);
         } catch (Exception e) {
             throw new PiggyException("Invalid date format! Try again and use: d/M/yyyy HHmm (e.g., 2/12/2019 1800).\n"
                     + "Or check that the start time is before the end time.");
         }
     }
 
+    /**
+     * Constructs a warning listing the events a new event clashes with.
+     *
+     * @param conflicts The clashing events.
+     * @return The warning, starting on a new line, or an empty string if there are no clashes.
+     */
+    private static String conflictWarning(List<Event> conflicts) {
+        if (conflicts.isEmpty()) {
+            return "";
+        }
+        StringBuilder warning = new StringBuilder("\nHeads up! This clashes with:");
+        for (Event conflict : conflicts) {
+            warning.append("\n ").append(conflict);
+        }
+        return warning.toString();
+    }
+
     /**
      * Validates that the given input is not empty.
      *
-     * @param input The input string to validate.
+     * @param input The trimmed input to validate.
      * @param errorMessage The error message to display if validation fails.
      * @throws PiggyException If the input is empty or null.
      */
-    private static void validateNonEmpty(String input, String errorMessage) throws PiggyException {
-        if (input == null || input.trim().isEmpty()) {
+    private static void validateNonEmpty(CharSequence input, String errorMessage) throws PiggyException {
+        if (input == null || input.length() == 0) {
             throw new PiggyException(errorMessage);
         }
     }
@@ -152,23 +209,4 @@ public class AddTask {
         // Return the final success message
         return "New task incoming! I've added it to our list :)\n " + task + "\n" + taskCountMessage;
     }
-
-    /**
-     * Checks if a task with the same description and relevant time details
-     * (if applicable) already exists in the provided task list.
-     *
-     * @param newTask  The task to check for duplicates.
-     * @param taskList The list of tasks to search for duplicates.
-     * @return true if a task with the same details exists in the list; false otherwise.
-     */
-    private static boolean isDuplicate(Task newTask, ArrayList<Task> taskList) {
-        for (Task task : taskList) {
-            if (task.equals(newTask)) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
-
-
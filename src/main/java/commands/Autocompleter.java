@@ -0,0 +1,257 @@
+package commands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import tasks.Task;
+import tasks.TaskList;
+import tasks.TaskListListener;
+
+/**
+ * Suggests completions for what the user is typing: command words, and for {@code mark}, {@code unmark}
+ * and {@code delete}, the tasks whose names have words starting with what was typed, resolved to their
+ * current positions. {@code find} keywords are completed from the words of task names.
+ *
+ * <p>Task name words are kept in a {@link PrefixTrie} that is updated as the task list changes, so a
+ * suggestion never scans the list. Tasks get ids in the order they are added, which is also their order in
+ * the list, so a task's position is the number of live ids before it. A Fenwick tree over the ids answers
+ * that count, and its reverse, in O(log n) time after a removal shifts later tasks up.</p>
+ */
+public class Autocompleter implements TaskListListener {
+    /** The largest number of suggestions offered at once. */
+    public static final int MAX_SUGGESTIONS = 8;
+
+    private final TaskList taskList;
+    private final PrefixTrie commandTrie = new PrefixTrie();
+    private final PrefixTrie wordTrie = new PrefixTrie();
+    private final ArrayList<List<String>> wordsById = new ArrayList<>(); // Null once a task is removed
+    private final LivePositions livePositions = new LivePositions();
+
+    /**
+     * Represents one suggestion: the text that replaces the input, and how it is shown.
+     */
+    public static class Suggestion {
+        private final String text;
+        private final String label;
+
+        Suggestion(String text, String label) {
+            this.text = text;
+            this.label = label;
+        }
+
+        /**
+         * Gets the text that replaces the user's input when the suggestion is picked.
+         *
+         * @return The completed input.
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * Gets the text shown for the suggestion.
+         *
+         * @return The label of the suggestion.
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    /**
+     * Keeps count of which ids still belong to tasks in the list.
+     * A Fenwick tree, indexed from 1, where each id counts 1 while its task is in the list.
+     */
+    private static class LivePositions {
+        private final BitSet live = new BitSet();
+        private int[] tree = new int[17];
+
+        void add(int id) {
+            if (id + 1 >= tree.length) {
+                grow(Math.max(tree.length * 2, id + 2));
+            }
+            live.set(id);
+            update(id + 1, 1);
+        }
+
+        void remove(int id) {
+            live.clear(id);
+            update(id + 1, -1);
+        }
+
+        /**
+         * Gets the position of a task: the number of live ids before its id.
+         */
+        int positionOf(int id) {
+            int count = 0;
+            for (int i = id; i > 0; i -= i & -i) {
+                count += tree[i];
+            }
+            return count;
+        }
+
+        /**
+         * Gets the id of the task at a position, by descending the tree for the (position + 1)-th live id.
+         */
+        int idAt(int position) {
+            int index = 0;
+            int remaining = position + 1;
+            for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+                int next = index + step;
+                if (next < tree.length && tree[next] < remaining) {
+                    index = next;
+                    remaining -= tree[next];
+                }
+            }
+            return index;
+        }
+
+        private void update(int index, int delta) {
+            for (int i = index; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        private void grow(int length) {
+            tree = new int[length];
+            for (int id = live.nextSetBit(0); id >= 0; id = live.nextSetBit(id + 1)) {
+                update(id + 1, 1);
+            }
+        }
+    }
+
+    /**
+     * Constructs an Autocompleter that indexes the tasks already in the list and follows its changes.
+     *
+     * @param taskList The task list to suggest tasks from.
+     */
+    public Autocompleter(TaskList taskList) {
+        this.taskList = taskList;
+        for (CommandType command : CommandType.values()) {
+            if (command.getKeyword() != null) {
+                commandTrie.add(command.getKeyword(), command.ordinal());
+            }
+        }
+        for (int i = 0; i < taskList.size(); i++) {
+            taskAdded(i, taskList.get(i));
+        }
+        taskList.addListener(this);
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        assert index == livePositions.positionOf(wordsById.size()) : "Tasks should only be appended to the list";
+        int id = wordsById.size();
+        List<String> words = splitWords(task.getName());
+        wordsById.add(words);
+        livePositions.add(id);
+        for (String word : words) {
+            wordTrie.add(word, id);
+        }
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        int id = livePositions.idAt(index);
+        for (String word : wordsById.get(id)) {
+            wordTrie.remove(word, id);
+        }
+        wordsById.set(id, null);
+        livePositions.remove(id);
+    }
+
+    /**
+     * Suggests completions for the user's partial input.
+     *
+     * @param input What the user has typed so far.
+     * @return Up to {@link #MAX_SUGGESTIONS} suggestions, or none if there is nothing to complete.
+     */
+    public List<Suggestion> suggest(String input) {
+        String typed = input.stripLeading().toLowerCase();
+        if (typed.isEmpty()) {
+            return List.of();
+        }
+        int firstSpace = typed.indexOf(' ');
+        if (firstSpace < 0) {
+            return suggestCommands(typed);
+        }
+        String commandWord = typed.substring(0, firstSpace);
+        List<String> arguments = splitWords(typed.substring(firstSpace + 1));
+        String lastWord = typed.endsWith(" ") || arguments.isEmpty() ? "" : arguments.remove(arguments.size() - 1);
+
+        switch (CommandType.fromString(commandWord)) {
+        case MARK:
+            return suggestTasks(commandWord, arguments, lastWord, position -> !taskList.get(position).isDone());
+        case UNMARK:
+            return suggestTasks(commandWord, arguments, lastWord, position -> taskList.get(position).isDone());
+        case DELETE:
+            return suggestTasks(commandWord, arguments, lastWord, position -> true);
+        case FIND:
+            return suggestKeywords(commandWord, arguments, lastWord);
+        default:
+            return List.of();
+        }
+    }
+
+    private List<Suggestion> suggestCommands(String prefix) {
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (int ordinal : commandTrie.findIds(prefix, MAX_SUGGESTIONS, id -> true)) {
+            String keyword = CommandType.values()[ordinal].getKeyword();
+            suggestions.add(new Suggestion(keyword, keyword));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Suggests the tasks with a word starting with the last word typed and, for every earlier word,
+     * a word starting with that one too. A number means the task is already picked.
+     */
+    private List<Suggestion> suggestTasks(String commandWord, List<String> earlierWords, String lastWord,
+            IntPredicate isEligible) {
+        if (lastWord.isEmpty() || lastWord.chars().allMatch(Character::isDigit)) {
+            return List.of();
+        }
+        IntPredicate accept = id -> earlierWords.stream().allMatch(earlier -> hasWordStartingWith(id, earlier))
+                && isEligible.test(livePositions.positionOf(id));
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (int id : wordTrie.findIds(lastWord, MAX_SUGGESTIONS, accept)) {
+            int position = livePositions.positionOf(id);
+            suggestions.add(new Suggestion(commandWord + " " + (position + 1),
+                    (position + 1) + ". " + taskList.describe(position)));
+        }
+        return suggestions;
+    }
+
+    private List<Suggestion> suggestKeywords(String commandWord, List<String> earlierWords, String lastWord) {
+        if (lastWord.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder start = new StringBuilder(commandWord).append(' ');
+        for (String earlier : earlierWords) {
+            start.append(earlier).append(' ');
+        }
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (String word : wordTrie.findWords(lastWord, MAX_SUGGESTIONS)) {
+            suggestions.add(new Suggestion(start + word, word));
+        }
+        return suggestions;
+    }
+
+    private boolean hasWordStartingWith(int id, String prefix) {
+        return wordsById.get(id).stream().anyMatch(word -> word.startsWith(prefix));
+    }
+
+    private static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>(Arrays.asList(text.toLowerCase().trim().split(" +")));
+        words.removeIf(String::isEmpty);
+        return words;
+    }
+}
@@ -0,0 +1,20 @@
+package commands;
+
+import exception.PiggyException;
+import tasks.TaskList;
+
+/**
+ * Handles one kind of command, given the tokenized line the user typed.
+ */
+@FunctionalInterface
+public interface Command {
+    /**
+     * Executes the command.
+     *
+     * @param commandLine The tokenized user input.
+     * @param taskList The list of tasks to work on.
+     * @return The response to show the user.
+     * @throws PiggyException If the command is invalid.
+     */
+    String execute(CommandLine commandLine, TaskList taskList) throws PiggyException;
+}
@@ -0,0 +1,182 @@
+package commands;
+
+import java.nio.CharBuffer;
+
+/**
+ * Represents one line of user input, tokenized in a single pass.
+ * The pass notes where the command word and its arguments start and end, and where the first
+ * {@code /by}, {@code /from} and {@code /to} flags are, without copying any part of the line.
+ * Commands then read their arguments as views over the original line.
+ */
+public final class CommandLine {
+    private static final String[] FLAGS = {"/by", "/from", "/to"};
+
+    private final String input;
+    private final int commandStart;
+    private final int commandEnd;
+    private final int argumentStart;
+    private final int end;
+    private final int[] flagOffsets = {-1, -1, -1};
+
+    private CommandLine(String input) {
+        this.input = input;
+        int length = input.length();
+        int i = 0;
+        while (i < length && input.charAt(i) <= ' ') {
+            i++;
+        }
+        int start = i;
+        int lastVisible = i;
+        int wordEnd = -1;
+        int argumentsFrom = -1;
+        for (; i < length; i++) {
+            char c = input.charAt(i);
+            if (c > ' ') {
+                lastVisible = i + 1;
+                if (wordEnd >= 0 && argumentsFrom < 0) {
+                    argumentsFrom = i;
+                }
+                if (c == '/' && wordEnd >= 0) {
+                    noteFlag(i);
+                }
+            } else if (c == ' ' && wordEnd < 0) {
+                wordEnd = i;
+            }
+        }
+        this.commandStart = start;
+        this.end = lastVisible;
+        this.commandEnd = wordEnd < 0 || wordEnd > lastVisible ? lastVisible : wordEnd;
+        this.argumentStart = argumentsFrom < 0 ? lastVisible : argumentsFrom;
+    }
+
+    /**
+     * Tokenizes a line of user input.
+     *
+     * @param input The line the user typed.
+     * @return The tokenized line.
+     */
+    public static CommandLine parse(String input) {
+        assert input != null : "User input should never be null in CommandLine.parse()";
+        return new CommandLine(input);
+    }
+
+    private void noteFlag(int offset) {
+        for (int f = 0; f < FLAGS.length; f++) {
+            if (flagOffsets[f] < 0 && input.startsWith(FLAGS[f], offset)) {
+                flagOffsets[f] = offset;
+            }
+        }
+    }
+
+    /**
+     * Gets the line exactly as the user typed it.
+     *
+     * @return The original input.
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Gets the command the line asks for, looked up from its first word.
+     *
+     * @return The command type, or {@link CommandType#UNKNOWN} if the word is not a command.
+     */
+    public CommandType getCommandType() {
+        return CommandType.fromKeyword(input, commandStart, commandEnd);
+    }
+
+    /**
+     * Gets the first word of the line, which names the command.
+     *
+     * @return A view of the command word.
+     */
+    public CharSequence getCommandWord() {
+        return CharBuffer.wrap(input, commandStart, commandEnd);
+    }
+
+    /**
+     * Checks whether anything follows the command word.
+     *
+     * @return True if the line has arguments.
+     */
+    public boolean hasArguments() {
+        return argumentStart < end;
+    }
+
+    /**
+     * Gets everything after the command word, without surrounding whitespace.
+     *
+     * @return A view of the arguments, empty if there are none.
+     */
+    public CharSequence getArguments() {
+        return CharBuffer.wrap(input, argumentStart, end);
+    }
+
+    /**
+     * Gets where the arguments start in the original input.
+     *
+     * @return The offset of the first argument character, or the end of the line if there are none.
+     */
+    public int getArgumentStart() {
+        return argumentStart;
+    }
+
+    /**
+     * Gets where the line ends, ignoring trailing whitespace.
+     *
+     * @return The offset just after the last visible character.
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Gets where a flag first appears among the arguments.
+     *
+     * @param flag One of {@code /by}, {@code /from} or {@code /to}.
+     * @return The offset of the flag in the original input, or -1 if it does not appear.
+     */
+    public int getFlagOffset(String flag) {
+        for (int f = 0; f < FLAGS.length; f++) {
+            if (FLAGS[f].equals(flag)) {
+                return flagOffsets[f];
+            }
+        }
+        throw new IllegalArgumentException("Flags are not tracked for " + flag);
+    }
+
+    /**
+     * Gets part of the original input, without surrounding whitespace.
+     *
+     * @param from The offset to start from.
+     * @param to The offset to end before.
+     * @return A view of the trimmed part, empty if it holds only whitespace.
+     */
+    public CharSequence slice(int from, int to) {
+        while (from < to && input.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && input.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return CharBuffer.wrap(input, from, to);
+    }
+
+    /**
+     * Parses the first argument as a whole number, without copying it out of the line.
+     *
+     * @return The number.
+     * @throws NumberFormatException If there is no first argument or it is not a whole number.
+     */
+    public int parseFirstArgumentAsInt() {
+        int argumentEnd = input.indexOf(' ', argumentStart);
+        if (argumentEnd < 0 || argumentEnd > end) {
+            argumentEnd = end;
+        }
+        if (argumentStart == argumentEnd) {
+            throw new NumberFormatException("There is no argument");
+        }
+        return Integer.parseInt(input, argumentStart, argumentEnd, 10);
+    }
+}
@@ -0,0 +1,44 @@
+package commands;
+
+import java.util.EnumMap;
+
+import exception.PiggyException;
+import tasks.TaskList;
+
+/**
+ * Maps each command type to the handler that executes it.
+ * A new command plugs in by adding its keyword to {@link CommandType} and registering a handler here,
+ * and dispatching a line costs one keyword table lookup and one array index.
+ */
+public class CommandRegistry {
+    private final EnumMap<CommandType, Command> handlers = new EnumMap<>(CommandType.class);
+
+    /**
+     * Registers the handler of a command type, replacing any earlier one.
+     *
+     * @param type The command type.
+     * @param handler The handler that executes it.
+     * @return This registry, so that registrations can be chained.
+     */
+    public CommandRegistry register(CommandType type, Command handler) {
+        assert type != CommandType.UNKNOWN : "Unrecognized commands cannot have a handler";
+        handlers.put(type, handler);
+        return this;
+    }
+
+    /**
+     * Executes a line with the handler of its command.
+     *
+     * @param commandLine The tokenized user input.
+     * @param taskList The list of tasks to work on.
+     * @return The response to show the user.
+     * @throws PiggyException If the command is unknown or invalid.
+     */
+    public String execute(CommandLine commandLine, TaskList taskList) throws PiggyException {
+        Command handler = handlers.get(commandLine.getCommandType());
+        if (handler == null) {
+            throw new PiggyException("Unfortunately, I don't know what that means. Please try again.");
+        }
+        return handler.execute(commandLine, taskList);
+    }
+}
@@ -2,20 +2,64 @@ package commands;
 
 /**
  * Represents the different types of commands that can be executed.
+ * Command words are looked up in a perfect hash table built once when the class loads, keyed on
+ * the length and the first and last letters of the word, so a lookup compares against at most one
+ * keyword and never lowercases or copies the input.
  */
 public enum CommandType {
-    LIST,
-    MARK,
-    UNMARK,
-    TODO,
-    DEADLINE,
-    EVENT,
-    DELETE,
-    DAYPLAN,
-    HELP,
-    FIND,
-    EXIT,
-    UNKNOWN; // For unrecognized commands
+    LIST("list"),
+    MARK("mark"),
+    UNMARK("unmark"),
+    TODO("todo"),
+    DEADLINE("deadline"),
+    EVENT("event"),
+    DELETE("delete"),
+    DAYPLAN("agenda"),
+    HELP("help"),
+    FIND("find"),
+    QUERY("query"),
+    FREE("free"),
+    OVERDUE("overdue"),
+    NEXT("next"),
+    BATCH("batch"),
+    EXIT("bye"),
+    UNKNOWN(null); // For unrecognized commands
+
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+    private static final CommandType[] KEYWORD_TABLE;
+    private static final int HASH_SEED;
+
+    static {
+        int size = Integer.highestOneBit(values().length) * 2;
+        int seed = 1;
+        CommandType[] table;
+        while ((table = buildTable(size, seed)) == null) {
+            if (++seed > size) {
+                seed = 1;
+                size *= 2;
+                if (size > MAX_TABLE_SIZE) {
+                    throw new AssertionError("Command keywords must differ in length, first or last letter");
+                }
+            }
+        }
+        KEYWORD_TABLE = table;
+        HASH_SEED = seed;
+    }
+
+    private final String keyword;
+
+    CommandType(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Gets the word the user types to run this command.
+     *
+     * @return The command word, or null for unrecognized commands.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
 
     /**
      * Converts a user input string into a corresponding CommandType.
@@ -24,31 +68,54 @@ public enum CommandType {
      * @return The corresponding CommandType.
      */
     public static CommandType fromString(String input) {
-        switch (input.toLowerCase()) {
-        case "list":
-            return LIST;
-        case "mark":
-            return MARK;
-        case "unmark":
-            return UNMARK;
-        case "todo":
-            return TODO;
-        case "deadline":
-            return DEADLINE;
-        case "event":
-            return EVENT;
-        case "delete":
-            return DELETE;
-        case "agenda":
-            return DAYPLAN;
-        case "help":
-            return HELP;
-        case "find":
-            return FIND;
-        case "bye":
-            return EXIT;
-        default:
+        return fromKeyword(input, 0, input.length());
+    }
+
+    /**
+     * Looks up the command named by part of a line, ignoring case.
+     *
+     * @param input The line holding the command word.
+     * @param start The offset of the command word.
+     * @param end The offset just after the command word.
+     * @return The corresponding CommandType, or UNKNOWN if the word is not a command.
+     */
+    static CommandType fromKeyword(CharSequence input, int start, int end) {
+        if (start >= end) {
             return UNKNOWN;
         }
+        CommandType candidate = KEYWORD_TABLE[hash(input, start, end, HASH_SEED, KEYWORD_TABLE.length - 1)];
+        if (candidate == null || candidate.keyword.length() != end - start) {
+            return UNKNOWN;
+        }
+        for (int i = start; i < end; i++) {
+            if (Character.toLowerCase(input.charAt(i)) != candidate.keyword.charAt(i - start)) {
+                return UNKNOWN;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Places every keyword in a table of the given size, or gives up if two land in the same slot.
+     */
+    private static CommandType[] buildTable(int size, int seed) {
+        CommandType[] table = new CommandType[size];
+        for (CommandType command : values()) {
+            if (command.keyword == null) {
+                continue;
+            }
+            int slot = hash(command.keyword, 0, command.keyword.length(), seed, size - 1);
+            if (table[slot] != null) {
+                return null;
+            }
+            table[slot] = command;
+        }
+        return table;
+    }
+
+    private static int hash(CharSequence word, int start, int end, int seed, int mask) {
+        int first = Character.toLowerCase(word.charAt(start));
+        int last = Character.toLowerCase(word.charAt(end - 1));
+        return ((first * seed + last) * 31 + end - start) & mask;
     }
 }
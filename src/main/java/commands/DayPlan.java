@@ -1,32 +1,66 @@
 package commands;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
 
 import exception.PiggyException;
+import query.QueryNode;
+import query.QueryPlan;
 import tasks.Deadline;
 import tasks.Event;
 import tasks.Task;
+import tasks.TaskList;
 
 /**
  * Represents a command that generates a day's plan based on tasks.
- * It checks for deadlines and events occurring on a specified date.
+ * It queries the deadlines and events occurring on a specified date, which the query planner answers
+ * from the time indexes of the task list.
+ * A range of days, such as a week or a month, is planned from one query per kind of task, whose results
+ * are swept through in date order and grouped by day, instead of querying every day separately.
  */
 public class DayPlan {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy");
     private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern("EEEE, MMM dd yyyy");
+    private static final String USAGE = "Try one of these formats:\n "
+            + "agenda for d/M/yyyy (e.g., agenda for 2/12/2023)\n "
+            + "agenda from d/M/yyyy to d/M/yyyy (e.g., agenda from 1/12/2023 to 7/12/2023)\n "
+            + "agenda week\n "
+            + "agenda month";
 
     /**
-     * Executes the "agenda for {date}" command, retrieving tasks and events for a specified date.
+     * Executes the "agenda for {date}", "agenda from {date} to {date}", "agenda week" and "agenda month" commands,
+     * retrieving the deadlines and events of a specified date or range of dates.
      *
      * @param userInput The user's input string containing the date
      * @param taskList  The list of tasks to check against the specified date.
-     * @return A formatted string of deadlines and events occurring on the specified date.
+     * @return A formatted string of deadlines and events occurring on the specified dates.
      * @throws PiggyException If the user input is invalid or contains an incorrect date format.
      */
-    public static String execute(String userInput, ArrayList<Task> taskList) throws PiggyException {
+    public static String execute(String userInput, TaskList taskList) throws PiggyException {
+        return execute(userInput, taskList, LocalDate.now());
+    }
+
+    /**
+     * Executes an agenda command, with "week" and "month" taken relative to the given day.
+     *
+     * @param userInput The user's input string containing the date
+     * @param taskList  The list of tasks to check against the specified date.
+     * @param today The current date.
+     * @return A formatted string of deadlines and events occurring on the specified dates.
+     * @throws PiggyException If the user input is invalid or contains an incorrect date format.
+     */
+    static String execute(String userInput, TaskList taskList, LocalDate today) throws PiggyException {
         assert userInput != null : "User input should never be null in DayPlan.execute()";
         assert taskList != null : "Task list should never be null in DayPlan.execute()";
 
@@ -34,7 +68,43 @@ public class DayPlan {
             return "You have no tasks at the moment. Free all day!";
         }
 
-        LocalDate currDate = extractDate(userInput);
+        String[] inputParts = userInput.trim().split(" +");
+        String mode = inputParts.length < 2 ? "" : inputParts[1].toLowerCase();
+        switch (mode) {
+        case "week":
+            LocalDate monday = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            return planRange(monday, monday.plusDays(6), taskList);
+        case "month":
+            return planRange(today.withDayOfMonth(1), today.with(TemporalAdjusters.lastDayOfMonth()), taskList);
+        case "from":
+            if (inputParts.length != 5 || !inputParts[3].equalsIgnoreCase("to")) {
+                throw new PiggyException("I don't exactly understand what you are asking. " + USAGE);
+            }
+            LocalDate from = parseDate(inputParts[2]);
+            LocalDate to = parseDate(inputParts[4]);
+            if (from.isAfter(to)) {
+                throw new PiggyException("The first date of the range can't come after the last one!");
+            }
+            return planRange(from, to, taskList);
+        default:
+            return planDay(extractDate(userInput), taskList);
+        }
+    }
+
+    /**
+     * Checks whether an agenda command covers dates relative to today, so that its response changes
+     * from one day to the next even if the tasks do not.
+     *
+     * @param userInput The user's agenda command.
+     * @return True if the command is "agenda week" or "agenda month".
+     */
+    public static boolean isRelativeToToday(String userInput) {
+        String[] inputParts = userInput.trim().split(" +");
+        return inputParts.length == 2
+                && (inputParts[1].equalsIgnoreCase("week") || inputParts[1].equalsIgnoreCase("month"));
+    }
+
+    private static String planDay(LocalDate currDate, TaskList taskList) {
         assert currDate != null : "Extracted date should never be null in DayPlan.execute()";
 
         String formattedDate = currDate.format(OUTPUT_FORMATTER);
@@ -43,12 +113,87 @@ public class DayPlan {
                 .append(formattedDate)
                 .append(":\n\n");
 
-        appendDeadlines(currDate, taskList, tasksOfDay);
-        appendEvents(currDate, taskList, tasksOfDay);
+        appendDeadlines(runQuery(QueryNode.dueBetween(startOfDay(currDate), endOfDay(currDate)), taskList),
+                tasksOfDay);
+        appendEvents(runQuery(QueryNode.happeningBetween(startOfDay(currDate), endOfDay(currDate)), taskList),
+                tasksOfDay);
 
         return tasksOfDay.toString().trim();
     }
 
+    /**
+     * Plans every day from {@code from} to {@code to} that has a deadline or an event, in a single sweep.
+     * Deadlines are points on their due day and events are intervals over the days they overlap. Both are
+     * sorted by their first day in the range; the sweep then jumps from one day with something on to the next,
+     * keeping the events under way in list order and dropping each one after its last day.
+     */
+    private static String planRange(LocalDate from, LocalDate to, TaskList taskList) {
+        List<Task> deadlines = new ArrayList<>(runQuery(QueryNode.dueBetween(startOfDay(from), endOfDay(to)),
+                taskList));
+        List<Task> events = runQuery(QueryNode.happeningBetween(startOfDay(from), endOfDay(to)), taskList);
+        if (deadlines.isEmpty() && events.isEmpty()) {
+            return "Nothing is happening from " + from.format(OUTPUT_FORMATTER) + " to "
+                    + to.format(OUTPUT_FORMATTER) + ". Enjoy the free time!";
+        }
+
+        // Stable sorts, so tasks on the same day keep their list order
+        deadlines.sort(Comparator.comparing(task -> ((Deadline) task).getDueDate().toLocalDate()));
+        List<Integer> eventsByFirstDay = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            eventsByFirstDay.add(i);
+        }
+        eventsByFirstDay.sort(Comparator.comparing(i -> firstDay((Event) events.get(i), from)));
+
+        TreeMap<Integer, Event> ongoingEvents = new TreeMap<>(); // Keyed by list order
+        PriorityQueue<Integer> endingEvents = new PriorityQueue<>(
+                Comparator.comparing(i -> lastDay((Event) events.get(i), to)));
+        StringBuilder plan = new StringBuilder("Here's what's happening from ")
+                .append(from.format(OUTPUT_FORMATTER))
+                .append(" to ")
+                .append(to.format(OUTPUT_FORMATTER))
+                .append(":\n\n");
+        int nextDeadline = 0;
+        int nextEvent = 0;
+        LocalDate day = from;
+        while (nextDeadline < deadlines.size() || nextEvent < events.size() || !ongoingEvents.isEmpty()) {
+            if (ongoingEvents.isEmpty()) {
+                // Nothing is under way, so skip ahead to the next day something starts
+                day = LocalDate.MAX;
+                if (nextDeadline < deadlines.size()) {
+                    day = ((Deadline) deadlines.get(nextDeadline)).getDueDate().toLocalDate();
+                }
+                if (nextEvent < events.size()) {
+                    LocalDate eventDay = firstDay((Event) events.get(eventsByFirstDay.get(nextEvent)), from);
+                    day = eventDay.isBefore(day) ? eventDay : day;
+                }
+            } else {
+                day = day.plusDays(1);
+            }
+
+            List<Deadline> deadlinesOfDay = new ArrayList<>();
+            while (nextDeadline < deadlines.size()
+                    && ((Deadline) deadlines.get(nextDeadline)).getDueDate().toLocalDate().equals(day)) {
+                deadlinesOfDay.add((Deadline) deadlines.get(nextDeadline++));
+            }
+            while (nextEvent < events.size()
+                    && firstDay((Event) events.get(eventsByFirstDay.get(nextEvent)), from).equals(day)) {
+                int event = eventsByFirstDay.get(nextEvent++);
+                ongoingEvents.put(event, (Event) events.get(event));
+                endingEvents.add(event);
+            }
+
+            plan.append(day.format(OUTPUT_FORMATTER)).append(":\n");
+            appendDeadlines(deadlinesOfDay, plan);
+            appendEvents(ongoingEvents.values(), plan);
+            plan.append("\n");
+
+            while (!endingEvents.isEmpty() && lastDay((Event) events.get(endingEvents.peek()), to).equals(day)) {
+                ongoingEvents.remove(endingEvents.poll());
+            }
+        }
+        return plan.toString().trim();
+    }
+
     /**
      * Extracts and validates the date from user input.
      *
@@ -60,8 +205,7 @@ public class DayPlan {
         String[] inputParts = userInput.split(" ");
 
         if (inputParts.length < 3 || !inputParts[1].equals("for")) {
-            throw new PiggyException("I don't exactly understand what you are asking. Try this format:\n "
-                    + "agenda for d/M/yyyy (e.g., agenda for 2/12/2023)");
+            throw new PiggyException("I don't exactly understand what you are asking. " + USAGE);
         }
 
         String dateStr = inputParts[2].trim();
@@ -70,6 +214,10 @@ public class DayPlan {
                     + "in the format d/M/yyyy (e.g., 2/12/2023).");
         }
 
+        return parseDate(dateStr);
+    }
+
+    private static LocalDate parseDate(String dateStr) throws PiggyException {
         try {
             return LocalDate.parse(dateStr, DATE_FORMATTER);
         } catch (DateTimeParseException e) {
@@ -79,24 +227,22 @@ public class DayPlan {
     }
 
     /**
-     * Appends deadlines occurring on the specified date to the output.
+     * Appends the deadlines of a day to the output.
      *
-     * @param date      The date to filter deadlines.
-     * @param taskList  The list of tasks.
+     * @param deadlines The deadlines due on the day, in list order.
      * @param tasksOfDay The StringBuilder storing the day's schedule.
      */
-    private static void appendDeadlines(LocalDate date, ArrayList<Task> taskList, StringBuilder tasksOfDay) {
+    private static void appendDeadlines(Collection<? extends Task> deadlines, StringBuilder tasksOfDay) {
         tasksOfDay.append("DEADLINES:\n");
         int deadlineCount = 0;
 
-        for (Task task : taskList) {
-            if (task instanceof Deadline && ((Deadline) task).getDueDate().toLocalDate().equals(date)) {
-                tasksOfDay.append(task.getName())
-                        .append(" due at: ")
-                        .append(((Deadline) task).getTime())
-                        .append("\n");
-                deadlineCount++;
-            }
+        for (Task task : deadlines) {
+            Deadline deadline = (Deadline) task;
+            tasksOfDay.append(deadline.getName())
+                    .append(" due at: ")
+                    .append(deadline.getTime())
+                    .append("\n");
+            deadlineCount++;
         }
 
         if (deadlineCount == 0) {
@@ -112,24 +258,22 @@ public class DayPlan {
     }
 
     /**
-     * Appends events occurring on the specified date to the output.
+     * Appends the events of a day to the output.
      *
-     * @param date The date to filter events.
-     * @param taskList The list of tasks.
+     * @param events The events happening on the day, in list order.
      * @param tasksOfDay The StringBuilder storing the day's schedule.
      */
-    private static void appendEvents(LocalDate date, ArrayList<Task> taskList, StringBuilder tasksOfDay) {
+    private static void appendEvents(Collection<? extends Task> events, StringBuilder tasksOfDay) {
         tasksOfDay.append("EVENTS:\n");
         int eventCount = 0;
 
-        for (Task task : taskList) {
-            if (task instanceof Event && ((Event) task).includesDate(date)) {
-                tasksOfDay.append(task.getName())
-                        .append(" ")
-                        .append(((Event) task).getDates())
-                        .append("\n");
-                eventCount++;
-            }
+        for (Task task : events) {
+            Event event = (Event) task;
+            tasksOfDay.append(event.getName())
+                    .append(" ")
+                    .append(event.getDates())
+                    .append("\n");
+            eventCount++;
         }
 
         if (eventCount == 0) {
@@ -142,6 +286,26 @@ public class DayPlan {
             tasksOfDay.append(" on this day.\n");
         }
     }
-}
 
+    private static List<Task> runQuery(QueryNode query, TaskList taskList) {
+        return QueryPlan.plan(query, taskList).execute(taskList);
+    }
+
+    private static LocalDate firstDay(Event event, LocalDate from) {
+        LocalDate start = event.getStart().toLocalDate();
+        return start.isBefore(from) ? from : start;
+    }
+
+    private static LocalDate lastDay(Event event, LocalDate to) {
+        LocalDate end = event.getEnd().toLocalDate();
+        return end.isAfter(to) ? to : end;
+    }
+
+    private static LocalDateTime startOfDay(LocalDate date) {
+        return date.atStartOfDay();
+    }
 
+    private static LocalDateTime endOfDay(LocalDate date) {
+        return date.atTime(LocalTime.MAX);
+    }
+}
@@ -1,9 +1,8 @@
 package commands;
 
-import java.util.ArrayList;
-
 import exception.PiggyException;
 import tasks.Task;
+import tasks.TaskList;
 
 
 
@@ -19,14 +18,25 @@ public class DeleteTask {
      * @return A success message after deletion.
      * @throws PiggyException If the index is invalid.
      */
-    public static String execute(String index, ArrayList<Task> taskList) throws PiggyException {
+    public static String execute(String index, TaskList taskList) throws PiggyException {
+        return execute(CommandLine.parse(index), taskList);
+    }
+
+    /**
+     * Executes the command on an already tokenized line, reading the index straight from it.
+     *
+     * @param commandLine The tokenized command containing the task index.
+     * @param taskList The list of tasks.
+     * @return The response to the command.
+     * @throws PiggyException If the index is invalid.
+     */
+    public static String execute(CommandLine commandLine, TaskList taskList) throws PiggyException {
         try {
-            int taskIndex = Integer.parseInt(index.split(" ")[1]) - 1;
+            int taskIndex = commandLine.parseFirstArgumentAsInt() - 1;
             if (taskIndex < 0 || taskIndex >= taskList.size()) {
                 throw new PiggyException("You need to pick a task to delete that is actually in the list, silly.");
             }
-            Task currTask = taskList.get(taskIndex);
-            taskList.remove(taskIndex);
+            Task currTask = taskList.remove(taskIndex);
             if (taskList.size() == 1) {
                 return "Phew! We got rid of " + currTask
                         + "\nNow you only have 1 task to worry about.";
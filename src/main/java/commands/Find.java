@@ -1,16 +1,29 @@
 package commands;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import query.QueryNode;
+import query.QueryPlan;
+import tasks.SearchRanker;
 import tasks.Task;
+import tasks.TaskList;
 
 /**
  * Represents a command to find tasks in the task list that match one or more keywords.
+ * By default a task matches if it contains any keyword; starting the keywords with {@code /all}
+ * only matches tasks that contain every keyword. A keyword starting with {@code ~} tolerates typos,
+ * matching tasks with a word within one or two edits of it.
+ * Only the most relevant matches are shown, most relevant first.
+ * The search itself is a query of keyword conditions, run through the query planner.
  */
 public class Find {
+    private static final String MATCH_ALL_FLAG = "/all";
+    private static final int RESULT_LIMIT = 10;
+
     /**
      * Extracts keywords from user input and calls the varargs-based execute method.
      *
@@ -18,7 +31,19 @@ public class Find {
      * @param tasks The list of tasks to search through.
      * @return A formatted string listing matching tasks or a message indicating no matches were found.
      */
-    public static String execute(String userInput, ArrayList<Task> tasks) {
+    public static String execute(String userInput, TaskList tasks) {
+        return execute(userInput, tasks, LocalDateTime.now());
+    }
+
+    /**
+     * Finds the tasks matching the keywords of a command, ranking them as of the given time.
+     *
+     * @param userInput The full user input string, including the "find" command and keywords.
+     * @param tasks The list of tasks to search through.
+     * @param now The current time, for judging how near deadlines are.
+     * @return A formatted string listing matching tasks or a message indicating no matches were found.
+     */
+    public static String execute(String userInput, TaskList tasks, LocalDateTime now) {
         assert userInput != null : "User input should not be null in Find.execute()";
         assert tasks != null : "Task list should not be null in Find.execute()";
 
@@ -40,36 +65,37 @@ public class Find {
         */
         // Extract keywords as a List (filters out any empty words)
         List<String> keywords = extractKeywords(inputParts[1]);
-        return processKeywords(tasks, keywords);
+        boolean isMatchAll = keywords.get(0).equals(MATCH_ALL_FLAG);
+        if (isMatchAll) {
+            keywords = keywords.subList(1, keywords.size());
+        }
+        if (keywords.isEmpty()) {
+            return "You forgot to tell me what keyword(s) to look for. Try again!";
+        }
+        return processKeywords(tasks, keywords, isMatchAll, now);
     }
 
     /**
-     * Processes the search for tasks containing any of the provided keywords.
+     * Processes the search for tasks containing any, or all, of the provided keywords.
      *
      * @param tasks The list of tasks.
      * @param keywords The keywords to search for.
+     * @param isMatchAll Whether a task must contain every keyword.
+     * @param now The current time, for judging how near deadlines are.
      * @return The formatted search results.
      */
-    private static String processKeywords(ArrayList<Task> tasks, List<String> keywords) {
+    private static String processKeywords(TaskList tasks, List<String> keywords, boolean isMatchAll,
+            LocalDateTime now) {
         assert !keywords.isEmpty() : "Keyword list should not be empty in Find.processKeywords()";
 
-        // Stream-based filtering of matching tasks
-        Set<Task> matchingTasks = tasks.stream()
-                .filter(task -> taskMatchesKeywords(task, keywords))
-                .collect(Collectors.toSet());
-
-        return formatResults(matchingTasks, keywords);
-    }
+        List<QueryNode> conditions = keywords.stream().map(QueryNode::keyword).collect(Collectors.toList());
+        QueryNode query = isMatchAll ? QueryNode.allOf(conditions) : QueryNode.anyOf(conditions);
 
-    /**
-     * Checks if a task's name contains any of the provided keywords (case-insensitive).
-     */
-    private static boolean taskMatchesKeywords(Task task, List<String> keywords) {
-        String taskNameLower = task.getName().toLowerCase();
+        // The planner answers keyword queries from the keyword index, already in list order
+        List<Task> matchingTasks = new ArrayList<>(new LinkedHashSet<>(QueryPlan.plan(query, tasks).execute(tasks)));
+        List<Task> topTasks = SearchRanker.findTopMatches(tasks, matchingTasks, keywords, RESULT_LIMIT, now);
 
-        return keywords.stream()
-                .map(keyword -> keyword.toLowerCase())
-                .anyMatch(keyword -> taskNameLower.contains(keyword));
+        return formatResults(topTasks, matchingTasks.size(), keywords);
     }
 
     /**
@@ -82,10 +108,10 @@ public class Find {
     }
 
     /**
-     * Formats the result string based on matching tasks.
+     * Formats the result string based on the most relevant matching tasks and the total number of matches.
      */
-    private static String formatResults(Set<Task> matchingTasks, List<String> keywords) {
-        if (matchingTasks.isEmpty()) {
+    private static String formatResults(List<Task> topTasks, int matchCount, List<String> keywords) {
+        if (topTasks.isEmpty()) {
             return "I couldn't find any tasks related to the keywords: \""
                     + String.join("\", \"", keywords) + "\".\nTry different ones!";
         }
@@ -94,9 +120,13 @@ public class Find {
                 + String.join(", ", keywords) + ":\n");
 
         int count = 1;
-        for (Task task : matchingTasks) {
+        for (Task task : topTasks) {
             result.append(count++).append(". ").append(task).append("\n");
         }
+        if (topTasks.size() < matchCount) {
+            result.append("(showing ").append(topTasks.size()).append(" of ").append(matchCount)
+                    .append(" matches, most relevant first)");
+        }
 
         return result.toString().trim();
     }
@@ -0,0 +1,164 @@
+package commands;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import exception.PiggyException;
+import tasks.Event;
+import tasks.TaskList;
+
+/**
+ * Represents a command that finds the open time windows of a day, between its events.
+ * The events of the day come from the event index of the task list, which finds the k events overlapping
+ * a period in O(log n + k) time. Sorting them by start then leaves the gaps between them in one pass.
+ */
+public class FreeTime {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy");
+    private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern("EEEE, MMM dd yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mma");
+    private static final Pattern DURATION_PATTERN = Pattern.compile("(?:(\\d{1,4})h)?(?:(\\d{1,4})m?)?",
+            Pattern.CASE_INSENSITIVE);
+    private static final String USAGE = "Try this format:\n "
+            + "free d/M/yyyy [duration] (e.g., free 2/12/2023 1h30m)";
+
+    /**
+     * Executes the "free {date} [duration]" command, listing the windows of the day not taken by any event
+     * that last at least the given duration.
+     *
+     * @param userInput The user's input string containing the date and, optionally, the duration.
+     * @param taskList The list of tasks whose events take up time.
+     * @return A formatted string of the free windows of the day.
+     * @throws PiggyException If the date or duration is missing or invalid.
+     */
+    public static String execute(String userInput, TaskList taskList) throws PiggyException {
+        assert userInput != null : "User input should never be null in FreeTime.execute()";
+        assert taskList != null : "Task list should never be null in FreeTime.execute()";
+
+        String[] inputParts = userInput.trim().split(" +");
+        if (inputParts.length < 2 || inputParts.length > 3) {
+            throw new PiggyException("I don't exactly understand what you are asking. " + USAGE);
+        }
+        LocalDate date = parseDate(inputParts[1]);
+        Duration minimum = inputParts.length == 3 ? parseDuration(inputParts[2]) : Duration.ZERO;
+        String formattedDate = date.format(OUTPUT_FORMATTER);
+        String atLeast = minimum.isZero() ? "" : " of at least " + describe(minimum);
+
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime dayEnd = date.plusDays(1).atStartOfDay();
+        List<LocalDateTime[]> windows = findFreeWindows(taskList, dayStart, dayEnd, minimum);
+        if (windows.isEmpty()) {
+            return "You have no free time" + atLeast + " on " + formattedDate + ". Busy day!";
+        }
+        if (windows.size() == 1 && windows.get(0)[0].equals(dayStart) && windows.get(0)[1].equals(dayEnd)) {
+            return "You're free all day on " + formattedDate + "!";
+        }
+
+        StringBuilder result = new StringBuilder("Here's when you're free")
+                .append(atLeast)
+                .append(" on ")
+                .append(formattedDate)
+                .append(":\n");
+        int count = 1;
+        for (LocalDateTime[] window : windows) {
+            result.append(count++).append(". ")
+                    .append(window[0].format(TIME_FORMATTER).toLowerCase())
+                    .append(" to ")
+                    .append(window[1].equals(dayEnd) ? "end of day" : window[1].format(TIME_FORMATTER).toLowerCase())
+                    .append("\n");
+        }
+        return result.toString().trim();
+    }
+
+    /**
+     * Finds the events that share some time with the given period. Events that only touch it,
+     * ending as it starts or starting as it ends, do not count.
+     *
+     * @param taskList The list of tasks to check.
+     * @param start The start of the period.
+     * @param end The end of the period.
+     * @return The clashing events, in list order.
+     */
+    static List<Event> findConflicts(TaskList taskList, LocalDateTime start, LocalDateTime end) {
+        List<Event> conflicts = new ArrayList<>();
+        for (Event event : taskList.getEventsOverlapping(start, end)) {
+            if (event.getEnd().isAfter(start) && event.getStart().isBefore(end)) {
+                conflicts.add(event);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Finds the windows of a period not covered by any event, sweeping the overlapping events in start order
+     * and keeping the latest end seen so far.
+     */
+    private static List<LocalDateTime[]> findFreeWindows(TaskList taskList, LocalDateTime dayStart,
+            LocalDateTime dayEnd, Duration minimum) {
+        List<Event> events = new ArrayList<>(findConflicts(taskList, dayStart, dayEnd));
+        events.sort(Comparator.comparing(Event::getStart));
+
+        List<LocalDateTime[]> windows = new ArrayList<>();
+        LocalDateTime freeFrom = dayStart;
+        for (Event event : events) {
+            addWindow(windows, freeFrom, event.getStart(), minimum);
+            if (event.getEnd().isAfter(freeFrom)) {
+                freeFrom = event.getEnd().isAfter(dayEnd) ? dayEnd : event.getEnd();
+            }
+        }
+        addWindow(windows, freeFrom, dayEnd, minimum);
+        return windows;
+    }
+
+    private static void addWindow(List<LocalDateTime[]> windows, LocalDateTime from, LocalDateTime to,
+            Duration minimum) {
+        Duration length = Duration.between(from, to);
+        if (!length.isNegative() && !length.isZero() && length.compareTo(minimum) >= 0) {
+            windows.add(new LocalDateTime[] {from, to});
+        }
+    }
+
+    private static LocalDate parseDate(String dateStr) throws PiggyException {
+        try {
+            return LocalDate.parse(dateStr, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new PiggyException("Invalid date! \nPlease check the day, month, "
+                    + "and format (d/M/yyyy, e.g., 2/12/2023).");
+        }
+    }
+
+    /**
+     * Parses a duration such as "2h", "45m", "1h30m" or "90" (minutes).
+     */
+    private static Duration parseDuration(String durationStr) throws PiggyException {
+        Matcher matcher = DURATION_PATTERN.matcher(durationStr);
+        if (durationStr.isEmpty() || !matcher.matches()) {
+            throw new PiggyException("I couldn't understand the duration \"" + durationStr
+                    + "\". Use hours and minutes, like 2h, 45m or 1h30m.");
+        }
+        long hours = matcher.group(1) == null ? 0 : Long.parseLong(matcher.group(1));
+        long minutes = matcher.group(2) == null ? 0 : Long.parseLong(matcher.group(2));
+        Duration duration = Duration.ofHours(hours).plusMinutes(minutes);
+        if (duration.isZero() || duration.compareTo(Duration.ofDays(1)) > 0) {
+            throw new PiggyException("The duration has to be more than nothing and at most a day.");
+        }
+        return duration;
+    }
+
+    private static String describe(Duration duration) {
+        long hours = duration.toHours();
+        long minutes = duration.toMinutesPart();
+        if (hours == 0) {
+            return minutes + (minutes == 1 ? " minute" : " minutes");
+        }
+        String hourText = hours + (hours == 1 ? " hour" : " hours");
+        return minutes == 0 ? hourText : hourText + " " + minutes + (minutes == 1 ? " minute" : " minutes");
+    }
+}
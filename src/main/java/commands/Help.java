@@ -11,7 +11,7 @@ public class Help {
      */
     public static String execute() {
         return "Here are the commands you can use in PiggyPlanner:\n\n"
-                + "1. list - View all tasks\n"
+                + "1. list [page] [--page-size N] - View all tasks, or one page of them\n"
                 + "2. mark [task number] - Mark a task as done\n"
                 + "3. unmark [task number] - Mark a task as not done\n"
                 + "4. todo [task description] - Add a ToDo task\n"
@@ -19,9 +19,16 @@ public class Help {
                 + "6. event [task description] /from [d/M/yyyy HHmm] /to [d/M/yyyy HHmm] - Add an Event task\n"
                 + "7. delete [task number] - Delete a task\n"
                 + "8. agenda for [d/M/yyyy] - View tasks on a specific date\n"
-                + "9. find [keywords] - Search tasks by keywords\n"
-                + "10. help - Show this help message\n"
-                + "11. bye - Exit PiggyPlanner\n\n"
+                + "   (or agenda from [d/M/yyyy] to [d/M/yyyy], agenda week, agenda month)\n"
+                + "9. find [/all] [keywords] - Search tasks by any (or all) keywords, ~keyword allows typos\n"
+                + "10. query [conditions] - Search with filters, e.g. status:undone type:deadline due<1/12/2025\n"
+                + "11. free [d/M/yyyy] [duration] - Find open time on a day, e.g. free 2/12/2025 1h30m\n"
+                + "12. overdue - View undone deadlines that have passed\n"
+                + "13. next [n] - View the next n deadlines and events (5 if n is left out)\n"
+                + "14. batch - Type commands one per line, then end, to run them together\n"
+                + "    (if any of them fails, none of them count)\n"
+                + "15. help - Show this help message\n"
+                + "16. bye - Exit PiggyPlanner\n\n"
                 + "For the full User Guide, visit:\n"
                 + "👉 https://teesha902.github.io/ip/";
     }
@@ -1,29 +1,84 @@
 package commands;
 
-import java.util.ArrayList;
-
-import tasks.Task;
+import exception.PiggyException;
+import tasks.TaskList;
 
 /**
- * Handles displaying all tasks in the list.
+ * Handles displaying the tasks in the list, either all at once or one page at a time
+ * ({@code list 3}, {@code list --page-size 50}, or both).
  */
 public class ListCommand {
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final String PAGE_SIZE_FLAG = "--page-size";
+
     /**
      * Displays all tasks in the list.
      *
      * @param taskList The list of tasks.
      * @return A formatted list of tasks or a message if the list is empty.
      */
-    public static String execute(ArrayList<Task> taskList) {
-        if (taskList.isEmpty()) {
-            return "You have no tasks at the moment. Yay!";
+    public static String execute(TaskList taskList) {
+        return new ListPage(taskList, 1, Math.max(1, taskList.size()), false).toString();
+    }
+
+    /**
+     * Displays the tasks in the list, or only the requested page of them.
+     *
+     * @param userInput The full user input string, including the "list" command.
+     * @param taskList The list of tasks.
+     * @return A formatted list of tasks or a message if the list is empty.
+     * @throws PiggyException If the page number or page size is invalid.
+     */
+    public static String execute(String userInput, TaskList taskList) throws PiggyException {
+        return getPage(userInput, taskList).toString();
+    }
+
+    /**
+     * Gets the page of tasks requested by a list command, for callers that stream or display it row by row.
+     * Without a page number or page size, the page holds the whole list.
+     *
+     * @param userInput The full user input string, including the "list" command.
+     * @param taskList The list of tasks.
+     * @return The requested page.
+     * @throws PiggyException If the page number or page size is invalid.
+     */
+    public static ListPage getPage(String userInput, TaskList taskList) throws PiggyException {
+        String[] inputParts = userInput.trim().split("\\s+");
+        if (inputParts.length == 1) {
+            return new ListPage(taskList, 1, Math.max(1, taskList.size()), false);
+        }
+
+        int pageNumber = 1;
+        int pageSize = DEFAULT_PAGE_SIZE;
+        for (int i = 1; i < inputParts.length; i++) {
+            if (inputParts[i].equals(PAGE_SIZE_FLAG)) {
+                if (i + 1 == inputParts.length) {
+                    throw new PiggyException("How many tasks per page? Try: list --page-size 50");
+                }
+                pageSize = parsePositive(inputParts[++i], "The page size");
+            } else {
+                pageNumber = parsePositive(inputParts[i], "The page number");
+            }
         }
-        StringBuilder fullList = new StringBuilder("Here is our to-do list:\n");
-        for (int i = 0; i < taskList.size(); i++) {
-            fullList.append(String.format("%d. %s\n", i + 1, taskList.get(i).toString()));
 
+        ListPage page = new ListPage(taskList, pageNumber, pageSize, true);
+        int pageCount = page.getPageCount();
+        if (pageNumber > pageCount) {
+            throw new PiggyException("There " + (pageCount == 1 ? "is only 1 page" : "are only " + pageCount
+                    + " pages") + " of tasks. Try a smaller page number!");
         }
-        return fullList.toString().trim();
+        return page;
     }
-}
 
+    private static int parsePositive(String number, String description) throws PiggyException {
+        try {
+            int value = Integer.parseInt(number);
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below, like a number that is not positive
+        }
+        throw new PiggyException(description + " must be a positive whole number, like \"list 2 --page-size 50\".");
+    }
+}
@@ -0,0 +1,147 @@
+package commands;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import tasks.ParallelScan;
+import tasks.Task;
+import tasks.TaskList;
+
+/**
+ * Represents one page of the task list, as shown by the {@code list} command.
+ * A page never builds its whole text up front: it can be streamed row by row to any {@link Appendable},
+ * and its rows can be fetched one at a time for display.
+ */
+public class ListPage {
+    private final TaskList taskList;
+    private final int first; // Position of the first task on the page
+    private final int end; // Position just after the last task on the page
+    private final int pageNumber;
+    private final int pageCount;
+    private final int pageSize;
+    private final boolean isPaged;
+
+    /**
+     * Constructs a ListPage.
+     *
+     * @param taskList The list of tasks.
+     * @param pageNumber The one-based number of the page.
+     * @param pageSize The number of tasks per page.
+     * @param isPaged Whether the user asked for a page rather than the whole list.
+     */
+    ListPage(TaskList taskList, int pageNumber, int pageSize, boolean isPaged) {
+        assert pageSize > 0 : "Page size should be positive";
+        this.taskList = taskList;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.isPaged = isPaged;
+        this.pageCount = Math.max(1, (taskList.size() + pageSize - 1) / pageSize);
+        this.first = Math.min(taskList.size(), (pageNumber - 1) * pageSize);
+        this.end = Math.min(taskList.size(), first + pageSize);
+    }
+
+    /**
+     * Gets the number of pages the list spans. An empty list still has one, empty, page.
+     *
+     * @return The number of pages.
+     */
+    int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Gets the line shown above the rows.
+     *
+     * @return The header of the page.
+     */
+    public String getHeader() {
+        if (taskList.isEmpty()) {
+            return "You have no tasks at the moment. Yay!";
+        }
+        if (isPaged) {
+            return "Here is our to-do list (page " + pageNumber + " of " + pageCount + "):";
+        }
+        return "Here is our to-do list:";
+    }
+
+    /**
+     * Gets the rows of the page, each numbered by its position in the whole list.
+     * The tasks are taken when this is called, but a row is only described when it is first read.
+     *
+     * @return The rows of the page.
+     */
+    public List<String> getRows() {
+        List<Task> tasks = new ArrayList<>(taskList.getAllTasks().subList(first, end));
+        String[] rows = new String[tasks.size()];
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                if (rows[index] == null) {
+                    rows[index] = (first + index + 1) + ". " + tasks.get(index);
+                }
+                return rows[index];
+            }
+
+            @Override
+            public int size() {
+                return rows.length;
+            }
+        };
+    }
+
+    /**
+     * Gets the line shown below the rows, pointing to the next page.
+     *
+     * @return The footer of the page, or an empty string if there is no next page.
+     */
+    public String getFooter() {
+        if (!isPaged || pageNumber >= pageCount) {
+            return "";
+        }
+        String nextPage = "list " + (pageNumber + 1);
+        if (pageSize != ListCommand.DEFAULT_PAGE_SIZE) {
+            nextPage += " " + ListCommand.PAGE_SIZE_FLAG + " " + pageSize;
+        }
+        return "Type \"" + nextPage + "\" to see the next page.";
+    }
+
+    /**
+     * Writes the page to the given output row by row, without building its whole text first.
+     *
+     * @param out The output to write to.
+     * @throws IOException If the output cannot be written to.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        out.append(getHeader());
+        for (int i = first; i < end; i++) {
+            out.append('\n').append(String.valueOf(i + 1)).append(". ").append(taskList.describe(i));
+        }
+        String footer = getFooter();
+        if (!footer.isEmpty()) {
+            out.append('\n').append(footer);
+        }
+    }
+
+    /**
+     * Returns the full text of the page. Pages of at least the parallel threshold are formatted in parallel.
+     *
+     * @return The page as a single string.
+     */
+    @Override
+    public String toString() {
+        if (end - first >= taskList.getParallelThreshold()) {
+            String footer = getFooter();
+            return getHeader() + "\n" + ParallelScan.join(first, end, i -> (i + 1) + ". " + taskList.describe(i),
+                    taskList.getParallelThreshold()) + (footer.isEmpty() ? "" : "\n" + footer);
+        }
+        StringBuilder text = new StringBuilder();
+        try {
+            writeTo(text);
+        } catch (IOException e) {
+            throw new AssertionError("A StringBuilder never fails to append", e);
+        }
+        return text.toString();
+    }
+}
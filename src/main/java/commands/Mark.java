@@ -1,9 +1,8 @@
 package commands;
 
-import java.util.ArrayList;
-
 import exception.PiggyException;
 import tasks.Task;
+import tasks.TaskList;
 
 /**
  * Handles marking a task as completed in the task list.
@@ -17,9 +16,21 @@ public class Mark {
      * @return A success message after marking the task.
      * @throws PiggyException If the index is invalid or the task is already marked.
      */
-    public static String execute(String index, ArrayList<Task> taskList) throws PiggyException {
+    public static String execute(String index, TaskList taskList) throws PiggyException {
+        return execute(CommandLine.parse(index), taskList);
+    }
+
+    /**
+     * Executes the command on an already tokenized line, reading the index straight from it.
+     *
+     * @param commandLine The tokenized command containing the task index.
+     * @param taskList The list of tasks.
+     * @return The response to the command.
+     * @throws PiggyException If the index is invalid.
+     */
+    public static String execute(CommandLine commandLine, TaskList taskList) throws PiggyException {
         try {
-            int taskIndex = Integer.parseInt(index.split(" ")[1]) - 1;
+            int taskIndex = commandLine.parseFirstArgumentAsInt() - 1;
             if (taskIndex < 0 || taskIndex >= taskList.size()) {
                 throw new PiggyException("You need to mark something actually in the list, silly");
             }
@@ -31,10 +42,11 @@ public class Mark {
                 return "The task is already marked.";
             } else {
                 // Mark the task and return success message
-                currTask.mark();
+                taskList.mark(taskIndex);
+                String markedTask = taskList.describe(taskIndex); // A columnar list hands out copies
 
                 return "Good work! Let's keep going."
-                        + "\nI've marked this task as done:\n  " + currTask;
+                        + "\nI've marked this task as done:\n  " + markedTask;
             }
 
         } catch (NumberFormatException e) {
@@ -0,0 +1,135 @@
+package commands;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+/**
+ * A prefix tree of words, each word tagged with the ids of the items it belongs to.
+ * Finding the words or ids under a prefix walks down the prefix and then only as far as the requested
+ * number of results, so it takes time proportional to the prefix and the results, not to the number of words.
+ * Branches left without words are pruned, so every branch leads to at least one word.
+ */
+class PrefixTrie {
+    private final Node root = new Node();
+
+    private static class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final HashSet<Integer> ids = new HashSet<>(); // Items having the word that ends here
+    }
+
+    /**
+     * Tags a word with an item id, adding the word if it is new.
+     *
+     * @param word The word to add.
+     * @param id The id of the item the word belongs to.
+     */
+    void add(String word, int id) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), key -> new Node());
+        }
+        node.ids.add(id);
+    }
+
+    /**
+     * Removes an item id from a word, removing the word once no item has it.
+     *
+     * @param word The word to remove the id from.
+     * @param id The id of the item.
+     */
+    void remove(String word, int id) {
+        remove(root, word, 0, id);
+    }
+
+    /**
+     * Finds the ids of items having a word that starts with the given prefix, in alphabetical order of the words.
+     *
+     * @param prefix The prefix of the words.
+     * @param limit The largest number of ids to return.
+     * @param filter Accepts the ids to return; ids it rejects do not count towards the limit.
+     * @return Up to {@code limit} distinct accepted ids.
+     */
+    List<Integer> findIds(String prefix, int limit, IntPredicate filter) {
+        ArrayList<Integer> found = new ArrayList<>();
+        Node node = find(prefix);
+        if (node != null) {
+            collectIds(node, limit, filter, new HashSet<>(), found);
+        }
+        return found;
+    }
+
+    /**
+     * Finds the words that start with the given prefix, in alphabetical order.
+     *
+     * @param prefix The prefix of the words.
+     * @param limit The largest number of words to return.
+     * @return Up to {@code limit} words.
+     */
+    List<String> findWords(String prefix, int limit) {
+        ArrayList<String> found = new ArrayList<>();
+        Node node = find(prefix);
+        if (node != null) {
+            collectWords(node, new StringBuilder(prefix), limit, found);
+        }
+        return found;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Removes an id from the word below a node, and reports whether the node was left empty.
+     */
+    private static boolean remove(Node node, String word, int depth, int id) {
+        if (depth == word.length()) {
+            node.ids.remove(id);
+        } else {
+            Node child = node.children.get(word.charAt(depth));
+            if (child != null && remove(child, word, depth + 1, id)) {
+                node.children.remove(word.charAt(depth));
+            }
+        }
+        return node.ids.isEmpty() && node.children.isEmpty();
+    }
+
+    private static void collectIds(Node node, int limit, IntPredicate filter, HashSet<Integer> seen,
+            List<Integer> found) {
+        for (int id : node.ids) {
+            if (found.size() >= limit) {
+                return;
+            }
+            if (seen.add(id) && filter.test(id)) {
+                found.add(id);
+            }
+        }
+        for (Node child : node.children.values()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            collectIds(child, limit, filter, seen, found);
+        }
+    }
+
+    private static void collectWords(Node node, StringBuilder word, int limit, List<String> found) {
+        if (!node.ids.isEmpty()) {
+            found.add(word.toString());
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            word.append(child.getKey());
+            collectWords(child.getValue(), word, limit, found);
+            word.setLength(word.length() - 1);
+        }
+    }
+}
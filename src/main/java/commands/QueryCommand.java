@@ -0,0 +1,52 @@
+package commands;
+
+import java.util.List;
+
+import exception.PiggyException;
+import query.QueryParser;
+import query.QueryPlan;
+import tasks.ParallelScan;
+import tasks.Task;
+import tasks.TaskList;
+
+/**
+ * Represents a command that lists the tasks matching a query written in the query language,
+ * such as {@code query status:undone type:deadline due<1/12/2025 "report" OR "slides"}.
+ */
+public class QueryCommand {
+    /**
+     * Executes the "query {conditions}" command.
+     *
+     * @param userInput The full user input string, including the "query" command.
+     * @param tasks The list of tasks to search through.
+     * @return A formatted string listing the matching tasks, or a message saying that none match.
+     * @throws PiggyException If the query is empty or malformed.
+     */
+    public static String execute(String userInput, TaskList tasks) throws PiggyException {
+        assert userInput != null : "User input should not be null in QueryCommand.execute()";
+        assert tasks != null : "Task list should not be null in QueryCommand.execute()";
+
+        String[] inputParts = userInput.trim().split(" ", 2);
+        String query = inputParts.length < 2 ? "" : inputParts[1];
+        List<Task> matches = run(query, tasks);
+        if (matches.isEmpty()) {
+            return "No tasks match your query. Try loosening it!";
+        }
+
+        String rows = ParallelScan.join(0, matches.size(), i -> (i + 1) + ". " + matches.get(i),
+                tasks.getParallelThreshold());
+        return ("Here are the tasks matching your query:\n" + rows).trim();
+    }
+
+    /**
+     * Parses, plans and runs a query against a task list.
+     *
+     * @param query The query text.
+     * @param tasks The list of tasks to search through.
+     * @return The matching tasks, in list order.
+     * @throws PiggyException If the query is empty or malformed.
+     */
+    static List<Task> run(String query, TaskList tasks) throws PiggyException {
+        return QueryPlan.plan(QueryParser.parse(query), tasks).execute(tasks);
+    }
+}
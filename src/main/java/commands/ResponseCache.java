@@ -0,0 +1,104 @@
+package commands;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import exception.PiggyException;
+import tasks.TaskList;
+
+/**
+ * Remembers the responses of read-only commands such as {@code list}, {@code find} and {@code agenda},
+ * so that repeating one between edits does not rebuild its response.
+ * Every response is tied to the modification count of the task list; once the list changes,
+ * all remembered responses are dropped. Only the most recently used responses are kept.
+ */
+public class ResponseCache {
+    private final Map<String, String> responses;
+    private long modificationCount = -1; // The modification count of the task list the responses were built from
+    private long hits;
+    private long misses;
+
+    /**
+     * Builds the response of a command, which may fail.
+     */
+    @FunctionalInterface
+    public interface Responder {
+        /**
+         * Builds the response.
+         *
+         * @return The response to the command.
+         * @throws PiggyException If the command is invalid.
+         */
+        String respond() throws PiggyException;
+    }
+
+    /**
+     * Constructs a ResponseCache.
+     *
+     * @param capacity The largest number of responses to keep. Zero keeps none.
+     */
+    public ResponseCache(int capacity) {
+        assert capacity >= 0 : "Cache capacity should not be negative";
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the remembered response to a command, or builds and remembers it if there is none.
+     * Failed commands are not remembered.
+     *
+     * @param userInput The command as typed by the user.
+     * @param taskList The task list the response is built from.
+     * @param responder Builds the response when it is not remembered.
+     * @return The response to the command.
+     * @throws PiggyException If the command is invalid.
+     */
+    public String getResponse(String userInput, TaskList taskList, Responder responder) throws PiggyException {
+        if (taskList.getModificationCount() != modificationCount) {
+            responses.clear();
+            modificationCount = taskList.getModificationCount();
+        }
+        String key = normalize(userInput);
+        String response = responses.get(key);
+        if (response != null) {
+            hits++;
+            return response;
+        }
+        misses++;
+        response = responder.respond();
+        responses.put(key, response);
+        return response;
+    }
+
+    /**
+     * Gets the number of commands answered from the cache.
+     *
+     * @return The number of hits.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of commands whose responses had to be built.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Normalizes a command so that inputs with the same response share an entry.
+     * Command words are case-insensitive, but arguments may be echoed back as typed, so they are kept.
+     */
+    private static String normalize(String userInput) {
+        String[] inputParts = userInput.trim().split(" ", 2);
+        String command = inputParts[0].toLowerCase();
+        return inputParts.length < 2 ? command : command + " " + inputParts[1];
+    }
+}
@@ -1,9 +1,8 @@
 package commands;
 
-import java.util.ArrayList;
-
 import exception.PiggyException;
 import tasks.Task;
+import tasks.TaskList;
 
 /**
  * Handles unmarking a task in the task list.
@@ -17,9 +16,21 @@ public class Unmark {
      * @return A success message after unmarking the task.
      * @throws PiggyException If the index is invalid or the task is already unmarked.
      */
-    public static String execute(String index, ArrayList<Task> taskList) throws PiggyException {
+    public static String execute(String index, TaskList taskList) throws PiggyException {
+        return execute(CommandLine.parse(index), taskList);
+    }
+
+    /**
+     * Executes the command on an already tokenized line, reading the index straight from it.
+     *
+     * @param commandLine The tokenized command containing the task index.
+     * @param taskList The list of tasks.
+     * @return The response to the command.
+     * @throws PiggyException If the index is invalid.
+     */
+    public static String execute(CommandLine commandLine, TaskList taskList) throws PiggyException {
         try {
-            int taskIndex = Integer.parseInt(index.split(" ")[1]) - 1;
+            int taskIndex = commandLine.parseFirstArgumentAsInt() - 1;
             if (taskIndex < 0 || taskIndex >= taskList.size()) {
                 throw new PiggyException("You need to unmark something actually in the list, silly");
             }
@@ -31,8 +42,9 @@ public class Unmark {
                 return "The task is already unmarked.";
             } else {
                 // Mark the task and return success message
-                currTask.unmark();
-                return "Oops, no problem.\nI've unmarked the task:\n  " + currTask;
+                taskList.unmark(taskIndex);
+                String unmarkedTask = taskList.describe(taskIndex); // A columnar list hands out copies
+                return "Oops, no problem.\nI've unmarked the task:\n  " + unmarkedTask;
             }
 
         } catch (NumberFormatException e) {
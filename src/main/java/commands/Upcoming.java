@@ -0,0 +1,107 @@
+package commands;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Task;
+import tasks.TaskList;
+
+/**
+ * Handles listing what is overdue and what is coming up next.
+ * Both read the task list's index of undone deadlines and events in time order, so they take time
+ * proportional to the tasks shown rather than to the whole list.
+ */
+public class Upcoming {
+    /** The number of tasks "next" shows when no number is given. */
+    public static final int DEFAULT_COUNT = 5;
+
+    /**
+     * Executes the "overdue" command, listing the undone deadlines that are past due.
+     *
+     * @param taskList The list of tasks to check.
+     * @return A formatted string of overdue deadlines, earliest due first.
+     */
+    public static String overdue(TaskList taskList) {
+        return overdue(taskList, LocalDateTime.now());
+    }
+
+    /**
+     * Lists the undone deadlines due before the given time.
+     *
+     * @param taskList The list of tasks to check.
+     * @param now The current time.
+     * @return A formatted string of overdue deadlines, earliest due first.
+     */
+    static String overdue(TaskList taskList, LocalDateTime now) {
+        assert taskList != null : "Task list should never be null in Upcoming.overdue()";
+
+        List<Deadline> overdue = taskList.getOverdueDeadlines(now);
+        if (overdue.isEmpty()) {
+            return "Nothing is overdue. Great job staying on top of things!";
+        }
+        String header = overdue.size() == 1 ? "This deadline has passed:" : "These " + overdue.size()
+                + " deadlines have passed, earliest first:";
+        return numbered(header, overdue);
+    }
+
+    /**
+     * Executes the "next [n]" command, listing the next undone deadlines and events.
+     *
+     * @param userInput The full user input string, including the "next" command.
+     * @param taskList The list of tasks to check.
+     * @return A formatted string of the next deadlines and events, soonest first.
+     * @throws PiggyException If the number of tasks is not a positive whole number.
+     */
+    public static String next(String userInput, TaskList taskList) throws PiggyException {
+        return next(userInput, taskList, LocalDateTime.now());
+    }
+
+    /**
+     * Lists the undone deadlines due, and undone events starting, at or after the given time.
+     *
+     * @param userInput The full user input string, including the "next" command.
+     * @param taskList The list of tasks to check.
+     * @param now The current time.
+     * @return A formatted string of the next deadlines and events, soonest first.
+     * @throws PiggyException If the number of tasks is not a positive whole number.
+     */
+    static String next(String userInput, TaskList taskList, LocalDateTime now) throws PiggyException {
+        assert userInput != null : "User input should never be null in Upcoming.next()";
+        assert taskList != null : "Task list should never be null in Upcoming.next()";
+
+        String[] inputParts = userInput.trim().split(" +");
+        if (inputParts.length > 2) {
+            throw new PiggyException("Try \"next\" or \"next 10\" to see what's coming up.");
+        }
+        int count = DEFAULT_COUNT;
+        if (inputParts.length == 2) {
+            try {
+                count = Integer.parseInt(inputParts[1]);
+            } catch (NumberFormatException e) {
+                count = 0;
+            }
+            if (count <= 0) {
+                throw new PiggyException("The number of tasks to show must be a positive whole number.");
+            }
+        }
+
+        List<Task> upcoming = taskList.getUpcoming(now, count);
+        if (upcoming.isEmpty()) {
+            return "Nothing is coming up. Enjoy the calm!";
+        }
+        String header = upcoming.size() == 1 ? "Here's what's coming up next:" : "Here are the next "
+                + upcoming.size() + " things coming up:";
+        return numbered(header, upcoming);
+    }
+
+    private static String numbered(String header, List<? extends Task> tasks) {
+        StringBuilder result = new StringBuilder(header).append("\n");
+        int count = 1;
+        for (Task task : tasks) {
+            result.append(count++).append(". ").append(task).append("\n");
+        }
+        return result.toString().trim();
+    }
+}
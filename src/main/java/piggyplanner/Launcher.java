@@ -9,11 +9,15 @@ import javafx.application.Application;
 public class Launcher {
     /**
      * The main method that starts the PiggyPlanner application.
-     * This method delegates to JavaFX to initialize the UI.
+     * This method delegates to JavaFX to initialize the UI, unless it is given a script of commands to run.
      *
-     * @param args Command-line arguments passed to the application (not used).
+     * @param args Command-line arguments passed to the application.
      */
     public static void main(String[] args) { //entry point to Java app
+        if (args.length > 0 && args[0].equals(PiggyPlanner.SCRIPT_OPTION)) {
+            PiggyPlanner.main(args); // Runs the script without a window
+            return;
+        }
         Application.launch(ui.MainWindow.class, args); //tells JavaFX to start GUI by launching MainWindow
     }
 }
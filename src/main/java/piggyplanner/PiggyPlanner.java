@@ -1,19 +1,45 @@
 package piggyplanner;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 import commands.AddTask;
+import commands.Autocompleter;
+import commands.Command;
+import commands.CommandLine;
+import commands.CommandRegistry;
 import commands.CommandType;
 import commands.DayPlan;
 import commands.DeleteTask;
 import commands.Find;
+import commands.FreeTime;
 import commands.Help;
 import commands.ListCommand;
+import commands.ListPage;
 import commands.Mark;
+import commands.QueryCommand;
+import commands.ResponseCache;
 import commands.Unmark;
+import commands.Upcoming;
 import exception.PiggyException;
+import storage.Durability;
+import storage.LoadReport;
+import storage.Persistence;
 import storage.Storage;
+import storage.StorageMode;
+import tasks.ParallelScan;
+import tasks.ReminderScheduler;
+import tasks.TaskLayout;
 import tasks.TaskList;
+import tasks.TaskListTransaction;
 import ui.Ui;
 
 
@@ -22,17 +48,72 @@ import ui.Ui;
  * This class validates and processes commands.
  */
 public class PiggyPlanner {
+    /** The command-line option that runs a file of commands as one batch instead of starting the chat. */
+    public static final String SCRIPT_OPTION = "--script";
+    private static final String END_OF_BATCH = "end";
+    private static final String STORAGE_MODE_PROPERTY = "piggyplanner.storage";
+    private static final String DURABILITY_PROPERTY = "piggyplanner.durability";
+    private static final String FLUSH_INTERVAL_PROPERTY = "piggyplanner.flushInterval";
+    private static final String LAYOUT_PROPERTY = "piggyplanner.layout";
+    private static final String CACHE_SIZE_PROPERTY = "piggyplanner.cacheSize";
+    private static final String PARALLEL_THRESHOLD_PROPERTY = "piggyplanner.parallelThreshold";
+    private static final String REMINDER_MINUTES_PROPERTY = "piggyplanner.reminderMinutes";
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+    private static final int DEFAULT_CACHE_SIZE = 32;
+    private static final long DEFAULT_REMINDER_MINUTES = 30;
     private final TaskList taskList;
+    private final Persistence persistence;
+    private final LoadReport loadReport = new LoadReport();
+    private final ResponseCache responseCache;
+    private final CommandRegistry commands;
     private final Scanner reader;
+    private final Duration reminderLeadTime;
+    private Autocompleter autocompleter; // Created when first needed, since only the GUI suggests completions
+    private ReminderScheduler reminderScheduler; // Created when first needed, so tests do not start its thread
+    private List<String> batchLines; // Commands waiting for the end of a batch, or null outside one
+    private boolean isRunningBatch;
 
     /**
      * Constructs a new PiggyPlanner instance.
      * Initializes the task list by loading stored tasks and sets up a scanner for user input.
+     * The storage mode can be chosen with the {@code piggyplanner.storage} system property.
+     * Setting {@code piggyplanner.durability} to {@code batched} saves changes in the background
+     * every {@code piggyplanner.flushInterval} milliseconds instead of after every command.
+     * Setting {@code piggyplanner.layout} to {@code columnar} holds the tasks in compact columns.
+     * The responses of up to {@code piggyplanner.cacheSize} read-only commands are remembered between edits.
+     * Full scans of at least {@code piggyplanner.parallelThreshold} tasks are run in parallel.
+     * Reminders come {@code piggyplanner.reminderMinutes} minutes before deadlines are due and events start.
      *
      * @throws PiggyException if there is an error loading the stored tasks.
      */
     public PiggyPlanner() throws PiggyException {
-        this.taskList = new TaskList(Storage.loadList());
+        String storageMode = System.getProperty(STORAGE_MODE_PROPERTY, "journal");
+        String durability = System.getProperty(DURABILITY_PROPERTY, "sync");
+        long flushInterval = Long.getLong(FLUSH_INTERVAL_PROPERTY, DEFAULT_FLUSH_INTERVAL_MILLIS);
+        if (flushInterval <= 0) {
+            throw new PiggyException("The flush interval must be a positive number of milliseconds.");
+        }
+        this.persistence = Storage.open(StorageMode.fromString(storageMode), Durability.fromString(durability),
+                flushInterval);
+        TaskLayout layout = TaskLayout.fromString(System.getProperty(LAYOUT_PROPERTY, "objects"));
+        this.taskList = new TaskList(persistence.load(loadReport), layout);
+        this.taskList.addListener(persistence);
+        int parallelThreshold = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, ParallelScan.DEFAULT_THRESHOLD);
+        if (parallelThreshold <= 0) {
+            throw new PiggyException("The parallel threshold must be a positive number of tasks.");
+        }
+        this.taskList.setParallelThreshold(parallelThreshold);
+        long reminderMinutes = Long.getLong(REMINDER_MINUTES_PROPERTY, DEFAULT_REMINDER_MINUTES);
+        if (reminderMinutes < 0) {
+            throw new PiggyException("Reminders can't come after the task is due.");
+        }
+        this.reminderLeadTime = Duration.ofMinutes(reminderMinutes);
+        int cacheSize = Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE);
+        if (cacheSize < 0) {
+            throw new PiggyException("The cache size cannot be negative.");
+        }
+        this.responseCache = new ResponseCache(cacheSize);
+        this.commands = registerCommands();
         this.reader = new Scanner(System.in);
     }
 
@@ -48,67 +129,204 @@ public class PiggyPlanner {
         assert !userInput.trim().isEmpty() : "User input should never be empty";
         assert taskList != null : "Task list should not be null when processing a command";
 
-        String[] inputParts = userInput.trim().split(" ", 2); // Split: command, arguments
-        CommandType command = CommandType.fromString(inputParts[0]);
+        if (batchLines != null) {
+            return collectBatchLine(userInput);
+        }
+        CommandLine commandLine = CommandLine.parse(userInput);
+        CommandType command = commandLine.getCommandType();
         assert command != null : "Command type should never be null in processCommand()";
-        validateArguments(command, inputParts);
+        validateArguments(command, commandLine);
+        return commands.execute(commandLine, taskList);
+    }
 
-        switch (command) {
-        case LIST:
-            return ListCommand.execute(taskList.getAllTasks());
+    /**
+     * Runs a batch of commands as one transaction against the task list in memory.
+     * The changes are saved together once every command has succeeded, so a batch of any size costs one write.
+     * If any command fails, every change the batch made is undone and nothing is saved.
+     *
+     * @param lines The commands to run, one per line. Blank lines are skipped.
+     * @return The responses to the commands, in order.
+     * @throws PiggyException If a command fails, after the changes of the batch have been undone.
+     */
+    public List<String> runBatch(List<String> lines) throws PiggyException {
+        TaskListTransaction transaction = taskList.beginTransaction();
+        List<String> responses = new ArrayList<>();
+        int lineNumber = 0;
+        isRunningBatch = true;
+        try {
+            for (String line : lines) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    responses.add(executeInBatch(line));
+                }
+            }
+        } catch (PiggyException e) {
+            undo(transaction);
+            throw new PiggyException("Line " + lineNumber + " of the batch failed, so none of it was saved:\n "
+                    + lines.get(lineNumber - 1).trim() + "\n" + e.getMessage());
+        } catch (RuntimeException e) {
+            undo(transaction);
+            throw e;
+        } finally {
+            isRunningBatch = false;
+        }
+        transaction.finish();
+        persistence.commit(taskList);
+        return responses;
+    }
 
-        case MARK:
-            assert inputParts.length == 2 : command + " should have an argument";
-            String markResponse = Mark.execute(userInput, taskList.getAllTasks());
-            Storage.updateList(taskList.getAllTasks());
-            return markResponse;
+    private String executeInBatch(String line) throws PiggyException {
+        CommandLine commandLine = CommandLine.parse(line);
+        CommandType command = commandLine.getCommandType();
+        if (command == CommandType.EXIT || command == CommandType.BATCH) {
+            throw new PiggyException("\"" + command.getKeyword() + "\" can't be used inside a batch.");
+        }
+        if (command != CommandType.UNKNOWN) {
+            validateArguments(command, commandLine);
+        }
+        return commands.execute(commandLine, taskList); // Unknown commands are rejected here
+    }
 
-        case UNMARK:
-            assert inputParts.length == 2 : command + " should have an argument";
-            String unmarkResponse = Unmark.execute(userInput, taskList.getAllTasks());
-            Storage.updateList(taskList.getAllTasks());
-            return unmarkResponse;
+    private void undo(TaskListTransaction transaction) {
+        transaction.rollback();
+        persistence.discard(taskList);
+    }
 
-        case TODO:
-            String todoResponse = AddTask.todo(userInput, taskList.getAllTasks());
-            Storage.updateList(taskList.getAllTasks());
-            return todoResponse;
+    /**
+     * Starts collecting the commands of a batch, which run together once the user types "end".
+     */
+    private String startBatch(CommandLine commandLine) throws PiggyException {
+        if (commandLine.hasArguments()) {
+            throw new PiggyException("Just type \"batch\" on its own, then one command per line.");
+        }
+        batchLines = new ArrayList<>();
+        return "Batch mode on! Type one command per line, then \"" + END_OF_BATCH + "\" to run them all at once.\n"
+                + "If any of them fails, none of them will count.";
+    }
 
-        case DEADLINE:
-            String deadlineResponse = AddTask.deadline(userInput, taskList.getAllTasks());
-            Storage.updateList(taskList.getAllTasks());
-            return deadlineResponse;
+    private String collectBatchLine(String userInput) throws PiggyException {
+        if (!userInput.trim().equalsIgnoreCase(END_OF_BATCH)) {
+            batchLines.add(userInput);
+            int waiting = batchLines.size();
+            return "Got it! " + waiting + (waiting == 1 ? " command is" : " commands are")
+                    + " waiting for \"" + END_OF_BATCH + "\".";
+        }
+        List<String> lines = batchLines;
+        batchLines = null;
+        List<String> responses = runBatch(lines);
+        if (responses.isEmpty()) {
+            return "The batch was empty, so there was nothing to run.";
+        }
+        return String.join("\n", responses) + "\nAll " + responses.size()
+                + (responses.size() == 1 ? " command" : " commands") + " in the batch ran, and were saved together.";
+    }
 
-        case EVENT:
-            String eventResponse = AddTask.event(userInput, taskList.getAllTasks());
-            Storage.updateList(taskList.getAllTasks());
-            return eventResponse;
+    /**
+     * Checks whether commands are being collected for a batch, rather than run as they come.
+     *
+     * @return True between "batch" and "end".
+     */
+    public boolean isCollectingBatch() {
+        return batchLines != null;
+    }
 
-        case DELETE:
-            assert inputParts.length == 2 : command + " should have an argument";
-            String deleteResponse = DeleteTask.execute(userInput, taskList.getAllTasks());
-            Storage.updateList(taskList.getAllTasks());
-            return deleteResponse;
+    /**
+     * Runs a file of commands as one batch, showing the response to each.
+     *
+     * @param script The file holding one command per line.
+     * @return True if every command succeeded and the changes were saved.
+     */
+    public boolean runScript(Path script) {
+        showLoadWarnings();
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(script);
+        } catch (IOException e) {
+            Ui.showMessage("I couldn't read the script " + script + ": " + e.getMessage());
+            return false;
+        }
+        try {
+            for (String response : runBatch(lines)) {
+                Ui.showMessage(response);
+            }
+            return true;
+        } catch (PiggyException e) {
+            Ui.showMessage(e.getMessage());
+            return false;
+        }
+    }
 
-        case FIND:
-            assert inputParts.length >= 2 : command + " should have an argument";
-            return Find.execute(userInput, taskList.getAllTasks());
+    /**
+     * Registers the handler of every command. Commands that change the task list save it afterwards,
+     * and the responses of read-only commands are cached until the list changes.
+     *
+     * @return The registry of command handlers.
+     */
+    private CommandRegistry registerCommands() {
+        Command cachedDayPlan = cached((line, tasks) -> DayPlan.execute(line.getInput(), tasks));
+        return new CommandRegistry()
+                .register(CommandType.LIST, cached((line, tasks) -> ListCommand.execute(line.getInput(), tasks)))
+                .register(CommandType.MARK, saved(Mark::execute))
+                .register(CommandType.UNMARK, saved(Unmark::execute))
+                .register(CommandType.TODO, saved(AddTask::todo))
+                .register(CommandType.DEADLINE, saved(AddTask::deadline))
+                .register(CommandType.EVENT, saved(AddTask::event))
+                .register(CommandType.DELETE, saved(DeleteTask::execute))
+                .register(CommandType.FIND, this::find)
+                .register(CommandType.QUERY, cached((line, tasks) -> QueryCommand.execute(line.getInput(), tasks)))
+                .register(CommandType.DAYPLAN, (line, tasks) -> DayPlan.isRelativeToToday(line.getInput())
+                        ? DayPlan.execute(line.getInput(), tasks) // Its days move with the date, so it is not cached
+                        : cachedDayPlan.execute(line, tasks))
+                .register(CommandType.FREE, cached((line, tasks) -> FreeTime.execute(line.getInput(), tasks)))
+                .register(CommandType.OVERDUE, (line, tasks) -> Upcoming.overdue(tasks)) // Depends on the time
+                .register(CommandType.NEXT, (line, tasks) -> Upcoming.next(line.getInput(), tasks))
+                .register(CommandType.HELP, (line, tasks) -> Help.execute())
+                .register(CommandType.BATCH, (line, tasks) -> startBatch(line))
+                .register(CommandType.EXIT, (line, tasks) -> exit());
+    }
 
-        case DAYPLAN:
-            assert inputParts.length >= 2 : command + " should have an argument";
-            return DayPlan.execute(userInput, taskList.getAllTasks());
-        case HELP:
-            return Help.execute();
-        case EXIT:
-            //Platform.exit();
-            return "Goodbye! See you soon! 🐷";
+    /**
+     * Saves everything before the application exits. A failure is shown with the goodbye
+     * instead of being thrown, so that it does not keep the application from exiting.
+     */
+    private String exit() {
+        String goodbye = "Goodbye! See you soon! 🐷";
+        try {
+            persistence.close();
+        } catch (PiggyException e) {
+            return e.getMessage() + "\n" + goodbye;
+        }
+        return goodbye;
+    }
+
+    /**
+     * Wraps the handler of a command that changes the task list, so that the change is saved.
+     */
+    private Command saved(Command command) {
+        return (line, tasks) -> {
+            String response = command.execute(line, tasks);
+            if (!isRunningBatch) {
+                persistence.commit(tasks); // A batch saves its changes together once it succeeds
+            }
+            return response;
+        };
+    }
 
+    /**
+     * Finds tasks by keyword. The ranking boosts deadlines that are near, so it changes with the time:
+     * a response is only reused within the minute it was ranked in, as deadlines are kept to the minute.
+     */
+    private String find(CommandLine commandLine, TaskList tasks) throws PiggyException {
+        LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        return responseCache.getResponse(commandLine.getInput() + "\n@" + minute, tasks, () ->
+                Find.execute(commandLine.getInput(), tasks, minute));
+    }
 
-        case UNKNOWN:
-        default:
-            assert false : "processCommand should never receive an UNKNOWN command";
-            throw new PiggyException("Unfortunately, I don't know what that means. Please try again.");
-        }
+    /**
+     * Wraps the handler of a read-only command, so that its response is remembered until the list changes.
+     */
+    private Command cached(Command command) {
+        return (line, tasks) -> responseCache.getResponse(line.getInput(), tasks, () -> command.execute(line, tasks));
     }
 
     /**
@@ -125,12 +343,102 @@ public class PiggyPlanner {
         }
     }
 
+    /**
+     * Gets the page of tasks requested by a list command, so that it can be shown row by row
+     * instead of as one long message.
+     *
+     * @param input The user's list command.
+     * @return The requested page.
+     * @throws PiggyException If the page number or page size is invalid.
+     */
+    public ListPage getListPage(String input) throws PiggyException {
+        return ListCommand.getPage(input, taskList);
+    }
+
+    /**
+     * Describes the saved entries that were skipped because they could not be read.
+     *
+     * @return The warnings to show the user, or null if every entry was loaded.
+     */
+    public String getLoadWarnings() {
+        return loadReport.hasWarnings() ? loadReport.toString() : null;
+    }
+
+    /**
+     * Gets the cache of read-only command responses, whose hit and miss counts show how well it is sized.
+     *
+     * @return The response cache.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Gets the autocompleter that suggests commands and tasks as the user types.
+     *
+     * @return The autocompleter, kept in sync with the task list.
+     */
+    public Autocompleter getAutocompleter() {
+        if (autocompleter == null) {
+            autocompleter = new Autocompleter(taskList);
+        }
+        return autocompleter;
+    }
+
+    /**
+     * Counts the undone deadlines that are past due, reading only those deadlines from the task list's index,
+     * so that it is cheap enough to poll every minute.
+     *
+     * @return The number of overdue deadlines.
+     */
+    public int countOverdue() {
+        return taskList.getOverdueDeadlines(LocalDateTime.now()).size();
+    }
+
+    /**
+     * Gets the scheduler that reminds the user of upcoming deadlines and events.
+     * It delivers nothing until it is given a listener and started.
+     *
+     * @return The reminder scheduler, kept in sync with the task list.
+     */
+    public ReminderScheduler getReminderScheduler() {
+        if (reminderScheduler == null) {
+            reminderScheduler = new ReminderScheduler(taskList, reminderLeadTime, Clock.systemDefaultZone());
+        }
+        return reminderScheduler;
+    }
+
+    /**
+     * Saves any changes still waiting to be written and stops background storage and reminder work.
+     * Safe to call more than once.
+     */
+    public void shutdown() {
+        if (reminderScheduler != null) {
+            reminderScheduler.close();
+        }
+        try {
+            persistence.close();
+        } catch (PiggyException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private void showLoadWarnings() {
+        if (loadReport.hasWarnings()) {
+            Ui.showMessage(loadReport.toString());
+        }
+    }
+
     /**
      * Runs the PiggyPlanner application in the console.
      * Continuously listens for user commands until the user exits.
      */
     public void run() {
         Ui.showWelcomeMessage();
+        showLoadWarnings();
+        ReminderScheduler reminders = getReminderScheduler();
+        reminders.addListener(Ui::showMessage);
+        reminders.start();
 
         while (true) {
             String userInput = reader.nextLine(); // Get user input from console
@@ -138,11 +446,18 @@ public class PiggyPlanner {
             assert userInput != null : "User input should never be null when reading from console";
 
             try {
+                boolean isBatching = isCollectingBatch(); // Commands of a batch are only collected
+                CommandType command = CommandLine.parse(userInput).getCommandType();
+                if (command == CommandType.LIST && !isBatching) {
+                    Ui.showMessage(getListPage(userInput)); // Streamed, rather than built as one string
+                    continue;
+                }
                 String response = processCommand(userInput);
                 Ui.showMessage(response);
 
-                if (CommandType.fromString(userInput.split(" ")[0]) == CommandType.EXIT) {
+                if (command == CommandType.EXIT && !isBatching) {
                     Ui.showExitMessage();
+                    reminders.close();
                     return; // Exit
                 }
 
@@ -156,17 +471,19 @@ public class PiggyPlanner {
      * Ensures the user input meets the expected format for each command.
      *
      * @param command The command type provided by the user.
-     * @param inputParts The split user input containing command and arguments.
+     * @param commandLine The tokenized user input containing command and arguments.
      * @throws PiggyException if the provided arguments are incorrect or missing.
      */
-    private void validateArguments(CommandType command, String[] inputParts) throws PiggyException {
+    private void validateArguments(CommandType command, CommandLine commandLine) throws PiggyException {
         assert command != null : "Command type should never be null in validateArguments";
-        int argLength = inputParts.length; // Check number of arguments
+        int argLength = commandLine.hasArguments() ? 2 : 1; // Check number of arguments
 
         switch (command) {
         case LIST:
+            break; // An optional page number and page size
+
         case EXIT:
-            assert argLength == 1 : "LIST and EXIT commands should not have arguments";
+            assert argLength == 1 : "EXIT command should not have arguments";
             break;
 
         case MARK:
@@ -177,25 +494,42 @@ public class PiggyPlanner {
         case FIND:
             assert argLength >= 2 : "FIND command should have at least one keyword";
             break;
+        case QUERY:
+            assert argLength >= 2 : "QUERY command should have at least one condition";
+            break;
 
         case TODO:
-            assert argLength == 2 && !inputParts[1].trim().isEmpty()
-                    : "TODO command must have a valid task description";
+            assert argLength == 2 : "TODO command must have a valid task description";
             break;
 
         case DEADLINE:
-            assert argLength >= 2 && inputParts[1].contains("/by") : "DEADLINE command must have a valid date format";
+            assert argLength >= 2 && commandLine.getFlagOffset("/by") >= 0
+                    : "DEADLINE command must have a valid date format";
             break;
 
         case EVENT:
-            assert argLength >= 2 && inputParts[1].contains("/from") && inputParts[1].contains("/to")
+            assert argLength >= 2 && commandLine.getFlagOffset("/from") >= 0 && commandLine.getFlagOffset("/to") >= 0
                     : "EVENT command must have a valid start and end time";
             break;
 
         case DAYPLAN:
-            assert argLength == 2 : "DAYPLAN command requires a date argument";
+            assert argLength == 2 : "DAYPLAN command requires a date, a range of dates, week or month";
+            break;
+
+        case FREE:
+            assert argLength == 2 : "FREE command requires a date";
+            break;
+
+        case OVERDUE:
+            assert argLength == 1 : "OVERDUE command should not have arguments";
             break;
 
+        case NEXT:
+            break; // An optional number of tasks
+
+        case BATCH:
+            break; // Checked when the batch starts
+
         case UNKNOWN:
         default:
             assert false : "validateArguments should never receive an UNKNOWN command";
@@ -205,13 +539,26 @@ public class PiggyPlanner {
 
     /**
      * The entry point for the PiggyPlanner application.
-     * Initializes and runs the application.
+     * Initializes and runs the application, or runs a file of commands given as {@code --script FILE}.
      *
-     * @param args Command-line arguments (not used yet).
+     * @param args Command-line arguments.
      */
     public static void main(String[] args) {
         try {
-            new PiggyPlanner().run();
+            PiggyPlanner piggyPlanner = new PiggyPlanner();
+            if (args.length == 0) {
+                piggyPlanner.run();
+                return;
+            }
+            if (args.length != 2 || !args[0].equals(SCRIPT_OPTION)) {
+                System.out.println("Usage: PiggyPlanner [" + SCRIPT_OPTION + " FILE]");
+                return;
+            }
+            boolean isSuccessful = piggyPlanner.runScript(Path.of(args[1]));
+            piggyPlanner.shutdown();
+            if (!isSuccessful) {
+                System.exit(1);
+            }
         } catch (PiggyException e) {
             System.out.println("An error occurred while starting the program: " + e.getMessage());
         }
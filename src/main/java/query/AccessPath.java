@@ -0,0 +1,97 @@
+package query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import tasks.Task;
+import tasks.TaskList;
+
+/**
+ * Represents a way of fetching the candidate tasks for a query from one of the indexes of a task list.
+ * Every path returns its tasks in list order. An exact path returns precisely the tasks matched by the node
+ * it came from, so that node need not be checked again.
+ */
+class AccessPath {
+    private final String description;
+    private final ToIntFunction<TaskList> costEstimator;
+    private final boolean isExact;
+    private final Function<TaskList, List<? extends Task>> lookup;
+
+    private AccessPath(String description, ToIntFunction<TaskList> costEstimator, boolean isExact,
+            Function<TaskList, List<? extends Task>> lookup) {
+        this.description = description;
+        this.costEstimator = costEstimator;
+        this.isExact = isExact;
+        this.lookup = lookup;
+    }
+
+    /**
+     * Creates a path through the keyword index.
+     *
+     * @param keywords The keywords to look up. None may contain a space.
+     * @param isMatchAll Whether a task must contain every keyword rather than any of them.
+     * @param isExact Whether the lookup gives exactly the matches of the node it answers.
+     * @return The keyword path.
+     */
+    static AccessPath keywords(List<String> keywords, boolean isMatchAll, boolean isExact) {
+        return new AccessPath("keyword index", tasks -> tasks.estimateKeywordMatches(keywords, isMatchAll),
+                isExact, tasks -> tasks.findByKeywords(keywords, isMatchAll));
+    }
+
+    /**
+     * Creates a path through the due date index of deadlines.
+     *
+     * @param from The start of the period, inclusive.
+     * @param to The end of the period, inclusive.
+     * @return The due date path.
+     */
+    static AccessPath deadlines(LocalDateTime from, LocalDateTime to) {
+        return new AccessPath("due date index", tasks -> tasks.estimateDeadlinesBetween(from, to), true,
+                tasks -> tasks.getDeadlinesBetween(from, to));
+    }
+
+    /**
+     * Creates a path through the interval index of events.
+     *
+     * @param from The start of the period, inclusive.
+     * @param to The end of the period, inclusive.
+     * @return The event path.
+     */
+    static AccessPath events(LocalDateTime from, LocalDateTime to) {
+        return new AccessPath("event index", tasks -> tasks.estimateEventsOverlapping(from, to), true,
+                tasks -> tasks.getEventsOverlapping(from, to));
+    }
+
+    /**
+     * Creates a path through the index of tasks by completion status.
+     *
+     * @param isDone Whether the tasks to fetch are done.
+     * @return The status path.
+     */
+    static AccessPath status(boolean isDone) {
+        return new AccessPath("status index", tasks -> tasks.countTasksByStatus(isDone), true,
+                tasks -> tasks.getTasksByStatus(isDone));
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    /**
+     * Estimates the cost of the path as the number of tasks it reads from the given list,
+     * taken from the sizes of the list's indexes.
+     */
+    int estimateCost(TaskList tasks) {
+        return costEstimator.applyAsInt(tasks);
+    }
+
+    boolean isExact() {
+        return isExact;
+    }
+
+    List<? extends Task> fetch(TaskList tasks) {
+        return lookup.apply(tasks);
+    }
+}
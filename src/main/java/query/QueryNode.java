@@ -0,0 +1,294 @@
+package query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import tasks.Deadline;
+import tasks.Event;
+import tasks.Task;
+
+/**
+ * Represents a parsed query: a tree of conditions on tasks.
+ * Every node compiles into a predicate, and nodes that an index of the task list can answer
+ * also offer an {@link AccessPath} for the planner to choose from.
+ */
+public abstract class QueryNode {
+    /**
+     * Compiles this node into a predicate that accepts exactly the tasks it matches.
+     *
+     * @return The compiled predicate.
+     */
+    abstract Predicate<Task> toPredicate();
+
+    /**
+     * Gets an index lookup that finds every task this node matches, possibly with extras.
+     *
+     * @return The access path, or null if only a full scan can find the matches.
+     */
+    AccessPath getAccessPath() {
+        return null;
+    }
+
+    /**
+     * Creates a node matching tasks whose names contain a keyword, in the same way as {@code find}.
+     *
+     * @param keyword The keyword, which may not contain a space.
+     * @return The keyword node.
+     */
+    public static QueryNode keyword(String keyword) {
+        return new Keyword(keyword);
+    }
+
+    /**
+     * Creates a node matching tasks whose names contain a phrase (case-insensitive), spaces included.
+     *
+     * @param phrase The phrase, which may not be empty.
+     * @return The phrase node.
+     */
+    public static QueryNode phrase(String phrase) {
+        return new Phrase(phrase);
+    }
+
+    /**
+     * Creates a node matching tasks matched by every one of the given nodes.
+     *
+     * @param conditions The nodes to combine.
+     * @return The combined node.
+     */
+    public static QueryNode allOf(List<QueryNode> conditions) {
+        return conditions.size() == 1 ? conditions.get(0) : new AllOf(conditions);
+    }
+
+    /**
+     * Creates a node matching tasks matched by any of the given nodes.
+     *
+     * @param alternatives The nodes to combine.
+     * @return The combined node.
+     */
+    public static QueryNode anyOf(List<QueryNode> alternatives) {
+        return alternatives.size() == 1 ? alternatives.get(0) : new AnyOf(alternatives);
+    }
+
+    /**
+     * Creates a node matching tasks not matched by the given node.
+     *
+     * @param condition The node to negate.
+     * @return The negated node.
+     */
+    public static QueryNode not(QueryNode condition) {
+        return new Not(condition);
+    }
+
+    /**
+     * Creates a node matching tasks with the given completion status.
+     *
+     * @param isDone Whether matching tasks are done.
+     * @return The status node.
+     */
+    public static QueryNode status(boolean isDone) {
+        return new Status(isDone);
+    }
+
+    /**
+     * Creates a node matching tasks of the given type.
+     *
+     * @param type The class of task to match.
+     * @return The type node.
+     */
+    public static QueryNode type(Class<? extends Task> type) {
+        return new Type(type);
+    }
+
+    /**
+     * Creates a node matching deadlines due within a period, with both ends inclusive.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return The due date node.
+     */
+    public static QueryNode dueBetween(LocalDateTime from, LocalDateTime to) {
+        return new DueBetween(from, to);
+    }
+
+    /**
+     * Creates a node matching events that overlap a period, with both ends inclusive.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return The event period node.
+     */
+    public static QueryNode happeningBetween(LocalDateTime from, LocalDateTime to) {
+        return new HappeningBetween(from, to);
+    }
+
+    static class Keyword extends QueryNode {
+        final String keyword;
+
+        Keyword(String keyword) {
+            this.keyword = keyword;
+        }
+
+        @Override
+        Predicate<Task> toPredicate() {
+            return task -> task.matchesKeyword(keyword);
+        }
+
+        @Override
+        AccessPath getAccessPath() {
+            return AccessPath.keywords(List.of(keyword), false, true);
+        }
+    }
+
+    static class Phrase extends QueryNode {
+        private final String phrase;
+
+        Phrase(String phrase) {
+            this.phrase = phrase;
+        }
+
+        @Override
+        Predicate<Task> toPredicate() {
+            String phraseLower = phrase.toLowerCase();
+            return task -> task.getName().toLowerCase().contains(phraseLower);
+        }
+
+        @Override
+        AccessPath getAccessPath() {
+            // A name containing the phrase contains each of its words, so those narrow the candidates,
+            // unless a word would be read as a fuzzy keyword
+            List<String> words = List.of(phrase.trim().split(" +"));
+            if (phrase.isBlank() || words.stream().anyMatch(word -> word.startsWith("~"))) {
+                return null;
+            }
+            return AccessPath.keywords(words, true, false);
+        }
+    }
+
+    static class AllOf extends QueryNode {
+        final List<QueryNode> conditions;
+
+        AllOf(List<QueryNode> conditions) {
+            this.conditions = conditions;
+        }
+
+        @Override
+        Predicate<Task> toPredicate() {
+            return conditions.stream().map(QueryNode::toPredicate).reduce(Predicate::and).orElse(task -> true);
+        }
+    }
+
+    static class AnyOf extends QueryNode {
+        private final List<QueryNode> alternatives;
+
+        AnyOf(List<QueryNode> alternatives) {
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        Predicate<Task> toPredicate() {
+            return alternatives.stream().map(QueryNode::toPredicate).reduce(Predicate::or).orElse(task -> false);
+        }
+
+        @Override
+        AccessPath getAccessPath() {
+            // Only keywords share one index that can merge alternatives while keeping list order
+            if (!alternatives.stream().allMatch(alternative -> alternative instanceof Keyword)) {
+                return null;
+            }
+            List<String> keywords = alternatives.stream()
+                    .map(alternative -> ((Keyword) alternative).keyword)
+                    .collect(Collectors.toList());
+            return AccessPath.keywords(keywords, false, true);
+        }
+    }
+
+    static class Not extends QueryNode {
+        private final QueryNode condition;
+
+        Not(QueryNode condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        Predicate<Task> toPredicate() {
+            return condition.toPredicate().negate();
+        }
+    }
+
+    static class Status extends QueryNode {
+        private final boolean isDone;
+
+        Status(boolean isDone) {
+            this.isDone = isDone;
+        }
+
+        @Override
+        Predicate<Task> toPredicate() {
+            return task -> task.isDone() == isDone;
+        }
+
+        @Override
+        AccessPath getAccessPath() {
+            return AccessPath.status(isDone);
+        }
+    }
+
+    static class Type extends QueryNode {
+        private final Class<? extends Task> type;
+
+        Type(Class<? extends Task> type) {
+            this.type = type;
+        }
+
+        @Override
+        Predicate<Task> toPredicate() {
+            return type::isInstance;
+        }
+    }
+
+    static class DueBetween extends QueryNode {
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+
+        DueBetween(LocalDateTime from, LocalDateTime to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        Predicate<Task> toPredicate() {
+            return task -> task instanceof Deadline
+                    && !((Deadline) task).getDueDate().isBefore(from)
+                    && !((Deadline) task).getDueDate().isAfter(to);
+        }
+
+        @Override
+        AccessPath getAccessPath() {
+            return AccessPath.deadlines(from, to);
+        }
+    }
+
+    static class HappeningBetween extends QueryNode {
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+
+        HappeningBetween(LocalDateTime from, LocalDateTime to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        Predicate<Task> toPredicate() {
+            return task -> task instanceof Event
+                    && !((Event) task).getStart().isAfter(to)
+                    && !((Event) task).getEnd().isBefore(from);
+        }
+
+        @Override
+        AccessPath getAccessPath() {
+            return AccessPath.events(from, to);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.ToDo;
+
+/**
+ * Parses the query language into a tree of {@link QueryNode}s.
+ *
+ * <p>A query is a list of conditions that must all hold. Conditions are keywords, "quoted phrases",
+ * or filters: {@code status:done|undone}, {@code type:todo|deadline|event}, {@code due:DATE}
+ * (with {@code <}, {@code <=}, {@code >} or {@code >=} in place of {@code :} for ranges) and {@code during:DATE}
+ * for events happening on a day. Conditions can be joined with {@code OR}, which binds tighter than the implicit
+ * {@code AND}, negated with {@code NOT}, and grouped with parentheses. Dates use the d/M/yyyy format.</p>
+ */
+public class QueryParser {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy");
+    private static final Pattern FILTER_PATTERN = Pattern.compile("(status|type|due|during)(<=|>=|:|<|>)(.*)",
+            Pattern.CASE_INSENSITIVE);
+    private static final String USAGE = "Try something like:\n"
+            + "query status:undone type:deadline due<1/12/2025 \"report\" OR \"slides\"";
+
+    private final List<Token> tokens;
+    private int position;
+
+    /**
+     * A word or quoted phrase of the query. Parentheses and operators are words too,
+     * but never phrases, so that a quoted "OR" is searched for instead.
+     */
+    private static class Token {
+        private final String text;
+        private final boolean isPhrase;
+
+        Token(String text, boolean isPhrase) {
+            this.text = text;
+            this.isPhrase = isPhrase;
+        }
+
+        boolean is(String word) {
+            return !isPhrase && text.equals(word);
+        }
+    }
+
+    private QueryParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses a query.
+     *
+     * @param query The query text.
+     * @return The root of the parsed query.
+     * @throws PiggyException If the query is empty or malformed.
+     */
+    public static QueryNode parse(String query) throws PiggyException {
+        QueryParser parser = new QueryParser(tokenize(query));
+        if (parser.tokens.isEmpty()) {
+            throw new PiggyException("You forgot to tell me what to look for. " + USAGE);
+        }
+        QueryNode root = parser.parseAllOf();
+        if (parser.position < parser.tokens.size()) {
+            throw new PiggyException("I didn't expect \"" + parser.tokens.get(parser.position).text
+                    + "\" there. " + USAGE);
+        }
+        return root;
+    }
+
+    private QueryNode parseAllOf() throws PiggyException {
+        List<QueryNode> conditions = new ArrayList<>();
+        conditions.add(parseAnyOf());
+        while (position < tokens.size() && !peek().is(")")) {
+            if (peek().is("AND")) {
+                position++;
+            }
+            conditions.add(parseAnyOf());
+        }
+        return QueryNode.allOf(conditions);
+    }
+
+    private QueryNode parseAnyOf() throws PiggyException {
+        List<QueryNode> alternatives = new ArrayList<>();
+        alternatives.add(parseUnary());
+        while (position < tokens.size() && peek().is("OR")) {
+            position++;
+            alternatives.add(parseUnary());
+        }
+        return QueryNode.anyOf(alternatives);
+    }
+
+    private QueryNode parseUnary() throws PiggyException {
+        if (position >= tokens.size()) {
+            throw new PiggyException("Your query ended too early. " + USAGE);
+        }
+        Token token = tokens.get(position++);
+        if (token.is("NOT")) {
+            return QueryNode.not(parseUnary());
+        }
+        if (token.is("(")) {
+            QueryNode group = parseAllOf();
+            if (position >= tokens.size()) {
+                throw new PiggyException("You forgot a closing \")\". " + USAGE);
+            }
+            position++;
+            return group;
+        }
+        if (token.is(")") || token.is("OR") || token.is("AND")) {
+            throw new PiggyException("I didn't expect \"" + token.text + "\" there. " + USAGE);
+        }
+        if (token.isPhrase) {
+            return parsePhrase(token.text);
+        }
+        Matcher filter = FILTER_PATTERN.matcher(token.text);
+        if (filter.matches()) {
+            return parseFilter(filter.group(1).toLowerCase(), filter.group(2), filter.group(3));
+        }
+        return QueryNode.keyword(token.text);
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private static QueryNode parsePhrase(String phrase) throws PiggyException {
+        if (phrase.isBlank()) {
+            throw new PiggyException("Quoted phrases can't be empty. " + USAGE);
+        }
+        // A single quoted word is an ordinary keyword, except that ~ is taken literally
+        if (!phrase.contains(" ") && !phrase.startsWith("~")) {
+            return QueryNode.keyword(phrase);
+        }
+        return QueryNode.phrase(phrase);
+    }
+
+    private static QueryNode parseFilter(String field, String operator, String value) throws PiggyException {
+        if (value.isEmpty()) {
+            throw new PiggyException("You forgot the value of \"" + field + operator + "\". " + USAGE);
+        }
+        switch (field) {
+        case "status":
+            checkOperator(field, operator);
+            return parseStatus(value);
+        case "type":
+            checkOperator(field, operator);
+            return parseType(value);
+        case "during":
+            checkOperator(field, operator);
+            LocalDate day = parseDate(value);
+            return QueryNode.happeningBetween(day.atStartOfDay(), day.atTime(LocalTime.MAX));
+        case "due":
+        default:
+            return parseDue(operator, parseDate(value));
+        }
+    }
+
+    private static QueryNode parseStatus(String value) throws PiggyException {
+        switch (value.toLowerCase()) {
+        case "done":
+            return QueryNode.status(true);
+        case "undone":
+            return QueryNode.status(false);
+        default:
+            throw new PiggyException("Status can only be \"done\" or \"undone\", not \"" + value + "\".");
+        }
+    }
+
+    private static QueryNode parseType(String value) throws PiggyException {
+        switch (value.toLowerCase()) {
+        case "todo":
+            return QueryNode.type(ToDo.class);
+        case "deadline":
+            return QueryNode.type(Deadline.class);
+        case "event":
+            return QueryNode.type(Event.class);
+        default:
+            throw new PiggyException("Type can only be \"todo\", \"deadline\" or \"event\", not \"" + value + "\".");
+        }
+    }
+
+    private static QueryNode parseDue(String operator, LocalDate day) {
+        switch (operator) {
+        case "<":
+            return QueryNode.dueBetween(LocalDateTime.MIN, day.atStartOfDay().minusNanos(1));
+        case "<=":
+            return QueryNode.dueBetween(LocalDateTime.MIN, day.atTime(LocalTime.MAX));
+        case ">":
+            return QueryNode.dueBetween(day.plusDays(1).atStartOfDay(), LocalDateTime.MAX);
+        case ">=":
+            return QueryNode.dueBetween(day.atStartOfDay(), LocalDateTime.MAX);
+        case ":":
+        default:
+            return QueryNode.dueBetween(day.atStartOfDay(), day.atTime(LocalTime.MAX));
+        }
+    }
+
+    private static void checkOperator(String field, String operator) throws PiggyException {
+        if (!operator.equals(":")) {
+            throw new PiggyException("\"" + field + "\" can only be used as " + field + ":VALUE. " + USAGE);
+        }
+    }
+
+    private static LocalDate parseDate(String value) throws PiggyException {
+        try {
+            return LocalDate.parse(value, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new PiggyException("Invalid date \"" + value + "\"! \nPlease check the day, month, "
+                    + "and format (d/M/yyyy, e.g., 2/12/2023).");
+        }
+    }
+
+    /**
+     * Splits a query into words, parentheses and quoted phrases.
+     */
+    private static List<Token> tokenize(String query) throws PiggyException {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(String.valueOf(c), false));
+                i++;
+            } else if (c == '"') {
+                int closingQuote = query.indexOf('"', i + 1);
+                if (closingQuote < 0) {
+                    throw new PiggyException("You forgot a closing quote. " + USAGE);
+                }
+                tokens.add(new Token(query.substring(i + 1, closingQuote), true));
+                i = closingQuote + 1;
+            } else {
+                int end = i;
+                while (end < query.length() && !Character.isWhitespace(query.charAt(end))
+                        && query.charAt(end) != '(' && query.charAt(end) != ')') {
+                    end++;
+                }
+                tokens.add(new Token(query.substring(i, end), false));
+                i = end;
+            }
+        }
+        return tokens;
+    }
+}
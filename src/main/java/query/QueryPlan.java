@@ -0,0 +1,116 @@
+package query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import tasks.Task;
+import tasks.TaskList;
+
+/**
+ * Represents how a query is run: where its candidate tasks come from, and the residual predicate
+ * that every candidate must still pass.
+ * The planner takes the cheapest index that can answer the query, or one of the conditions that must all hold;
+ * without one, every task is scanned. Costs are estimated from the sizes of the indexes of the list being queried,
+ * so a plan is only meant for that list.
+ */
+public class QueryPlan {
+    private final AccessPath accessPath; // Null for a full scan
+    private final Predicate<Task> residual;
+
+    private QueryPlan(AccessPath accessPath, Predicate<Task> residual) {
+        this.accessPath = accessPath;
+        this.residual = residual;
+    }
+
+    /**
+     * Plans how to run a query.
+     *
+     * @param query The query to plan.
+     * @param tasks The task list the plan will run against.
+     * @return The plan for the query.
+     */
+    public static QueryPlan plan(QueryNode query, TaskList tasks) {
+        if (query instanceof QueryNode.AllOf) {
+            return planAllOf(((QueryNode.AllOf) query).conditions, tasks);
+        }
+        AccessPath path = query.getAccessPath();
+        if (path != null && path.isExact()) {
+            return new QueryPlan(path, task -> true);
+        }
+        return new QueryPlan(path, query.toPredicate());
+    }
+
+    /**
+     * Runs the plan against a task list. A full scan of a large list checks the tasks in parallel.
+     *
+     * @param tasks The task list to search.
+     * @return The matching tasks, in list order.
+     */
+    public List<Task> execute(TaskList tasks) {
+        if (accessPath == null) {
+            return tasks.findMatching(residual);
+        }
+        ArrayList<Task> matches = new ArrayList<>();
+        for (Task task : accessPath.fetch(tasks)) {
+            if (residual.test(task)) {
+                matches.add(task);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Describes where the candidate tasks come from.
+     *
+     * @return The name of the index used, or "full scan".
+     */
+    public String describeAccess() {
+        return accessPath == null ? "full scan" : accessPath.getDescription();
+    }
+
+    /**
+     * Picks the cheapest path among the conditions that must all hold. Plain keywords are also looked up
+     * together, since the keyword index can intersect them in one pass.
+     */
+    private static QueryPlan planAllOf(List<QueryNode> conditions, TaskList tasks) {
+        AccessPath bestPath = null;
+        int bestCost = Integer.MAX_VALUE;
+        List<QueryNode> answered = List.of();
+
+        List<QueryNode> keywordConditions = conditions.stream()
+                .filter(condition -> condition instanceof QueryNode.Keyword)
+                .collect(Collectors.toList());
+        if (keywordConditions.size() > 1) {
+            List<String> keywords = keywordConditions.stream()
+                    .map(condition -> ((QueryNode.Keyword) condition).keyword)
+                    .collect(Collectors.toList());
+            bestPath = AccessPath.keywords(keywords, true, true);
+            bestCost = bestPath.estimateCost(tasks);
+            answered = keywordConditions;
+        }
+        for (QueryNode condition : conditions) {
+            AccessPath path = condition.getAccessPath();
+            if (path == null) {
+                continue;
+            }
+            int cost = path.estimateCost(tasks);
+            if (bestPath == null || cost < bestCost) {
+                bestPath = path;
+                bestCost = cost;
+                answered = List.of(condition);
+            }
+        }
+
+        List<QueryNode> unanswered = new ArrayList<>(conditions);
+        if (bestPath != null && bestPath.isExact()) {
+            unanswered.removeAll(answered);
+        }
+        Predicate<Task> residual = unanswered.stream()
+                .map(QueryNode::toPredicate)
+                .reduce(Predicate::and)
+                .orElse(task -> true);
+        return new QueryPlan(bestPath, residual);
+    }
+}
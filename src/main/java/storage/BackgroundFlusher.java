@@ -0,0 +1,89 @@
+package storage;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import exception.PiggyException;
+
+/**
+ * Runs a flush action on a dedicated writer thread at a fixed interval whenever there are unsaved changes,
+ * so that a burst of commands is written to disk in a single write.
+ */
+class BackgroundFlusher {
+    private final ScheduledExecutorService writer;
+    private final FlushAction action;
+    private final AtomicBoolean isDirty = new AtomicBoolean();
+    private final Object flushLock = new Object();
+
+    /**
+     * Represents the work done to save all outstanding changes.
+     */
+    interface FlushAction {
+        void flush() throws PiggyException;
+    }
+
+    /**
+     * Constructs a BackgroundFlusher and starts its writer thread.
+     *
+     * @param threadName The name of the writer thread.
+     * @param intervalMillis How long to wait between flushes, in milliseconds.
+     * @param action The work that saves all outstanding changes.
+     */
+    BackgroundFlusher(String threadName, long intervalMillis, FlushAction action) {
+        assert intervalMillis > 0 : "Flush interval should be positive";
+        this.action = action;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flushInBackground, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records that there are changes waiting to be written.
+     * Callers must make the changes visible to the flush action before calling this.
+     */
+    void markDirty() {
+        isDirty.set(true);
+    }
+
+    /**
+     * Writes any outstanding changes on the calling thread.
+     *
+     * @throws PiggyException If the changes cannot be written; they are kept for the next attempt.
+     */
+    void flush() throws PiggyException {
+        synchronized (flushLock) {
+            if (!isDirty.getAndSet(false)) {
+                return;
+            }
+            try {
+                action.flush();
+            } catch (PiggyException e) {
+                isDirty.set(true);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Stops the writer thread and writes any outstanding changes.
+     *
+     * @throws PiggyException If the changes cannot be written.
+     */
+    void close() throws PiggyException {
+        writer.shutdown();
+        flush();
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (PiggyException e) {
+            System.out.println("Warning: Background save failed, will retry - " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.Task;
+import tasks.ToDo;
+
+/**
+ * Reads and writes the versioned binary snapshot format of the task list.
+ *
+ * <p>Layout: a 16-byte header (magic, version, record count, string table size), followed by
+ * one fixed-width record per task, followed by a string table holding the UTF-8 task names.
+ * Each record stores the task type, its status, the position of its name in the string table,
+ * and its start/end times as minutes since the epoch (UTC), so no text parsing is needed to load it.</p>
+ */
+public class BinarySnapshot {
+    static final int MAGIC = 0x50494742; // "PIGB"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 28;
+
+    private static final byte TODO = 'T';
+    private static final byte DEADLINE = 'D';
+    private static final byte EVENT = 'E';
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    /**
+     * Checks whether the given file starts with the binary snapshot magic number.
+     *
+     * @param file The file to check.
+     * @return true if the file is a binary snapshot; false otherwise.
+     * @throws IOException If the file cannot be read.
+     */
+    public static boolean isBinary(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) < HEADER_SIZE) {
+            return false;
+        }
+        try (InputStream input = Files.newInputStream(file)) {
+            byte[] magic = input.readNBytes(4);
+            return ByteBuffer.wrap(magic).getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Reads the number of records stored in a binary snapshot, including any that cannot be loaded.
+     *
+     * @param file The binary snapshot to read.
+     * @return The record count from the header.
+     * @throws IOException If the file cannot be read.
+     */
+    static int readRecordCount(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            return header.getInt(8);
+        }
+    }
+
+    /**
+     * Gets the byte offset of the status field of the record at the given position.
+     *
+     * @param index The zero-based position of the record.
+     * @return The offset of its status byte from the start of the file.
+     */
+    static long statusOffset(int index) {
+        return HEADER_SIZE + (long) index * RECORD_SIZE + 1;
+    }
+
+    /**
+     * Loads every task in a binary snapshot, reading the whole file in one go.
+     * The file is read into memory rather than mapped, so that no mapping keeps it locked
+     * (as Windows does) when it is renamed or rewritten later.
+     * Records that cannot be turned back into tasks, or whose name lies outside the string table,
+     * are skipped with a warning.
+     *
+     * @param file The binary snapshot to read.
+     * @param report The report that collects warnings about skipped records.
+     * @return An ArrayList of the saved tasks.
+     * @throws IOException If the file cannot be read or is not a supported snapshot.
+     */
+    public static ArrayList<Task> read(Path file, LoadReport report) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a binary task snapshot.");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+        int count = buffer.getInt(8);
+        int stringTableSize = buffer.getInt(12);
+        long stringTableStart = HEADER_SIZE + (long) count * RECORD_SIZE;
+        if (count < 0 || stringTableSize < 0 || stringTableStart + stringTableSize > buffer.capacity()) {
+            throw new IOException("Snapshot file is truncated.");
+        }
+
+        ArrayList<Task> taskList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = readRecord(buffer, i, (int) stringTableStart, stringTableSize, report);
+            if (task != null) {
+                taskList.add(task);
+            }
+        }
+        return taskList;
+    }
+
+    /**
+     * Writes every task to the given file in the binary snapshot format.
+     * Identical names share one entry in the string table.
+     *
+     * @param taskList The tasks to write.
+     * @param target The file to write to.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(List<Task> taskList, Path target) throws IOException {
+        ByteBuffer records = ByteBuffer.allocate(taskList.size() * RECORD_SIZE);
+        HashMap<String, Integer> nameOffsets = new HashMap<>();
+        ByteBuffer names = ByteBuffer.allocate(1024);
+
+        for (Task task : taskList) {
+            byte[] nameBytes = task.getName().getBytes(StandardCharsets.UTF_8);
+            Integer nameOffset = nameOffsets.get(task.getName());
+            if (nameOffset == null) {
+                nameOffset = names.position();
+                names = ensureCapacity(names, nameBytes.length);
+                names.put(nameBytes);
+                nameOffsets.put(task.getName(), nameOffset);
+            }
+            writeRecord(records, task, nameOffset, nameBytes.length);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(taskList.size())
+                .putInt(names.position());
+        try (OutputStream output = Files.newOutputStream(target)) {
+            output.write(header.array());
+            output.write(records.array());
+            output.write(names.array(), 0, names.position());
+        }
+    }
+
+    /**
+     * Converts the text task file into a binary snapshot in place.
+     * Run once with {@code java -cp PiggyPlanner.jar storage.BinarySnapshot}.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        try {
+            Path file = Paths.get(Storage.FILE_PATH);
+            if (isBinary(file)) {
+                System.out.println("The task file is already in the binary format.");
+                return;
+            }
+            LoadReport report = new LoadReport();
+            ArrayList<Task> taskList = Storage.loadList(report);
+            if (report.hasWarnings()) {
+                System.out.println(report);
+            }
+            Path temp = Paths.get(Storage.SNAPSHOT_TEMP_PATH);
+            write(taskList, temp);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Converted " + taskList.size() + " tasks to the binary format.");
+        } catch (IOException | PiggyException e) {
+            System.out.println("An error occurred while converting the task file: " + e.getMessage());
+        }
+    }
+
+    private static Task readRecord(ByteBuffer buffer, int index, int stringTableStart, int stringTableSize,
+            LoadReport report) {
+        int offset = HEADER_SIZE + index * RECORD_SIZE;
+        byte type = buffer.get(offset);
+        boolean isDone = buffer.get(offset + 1) == 'X';
+        int nameOffset = buffer.getInt(offset + 4);
+        int nameLength = buffer.getInt(offset + 8);
+        long start = buffer.getLong(offset + 12);
+        long end = buffer.getLong(offset + 20);
+
+        if (nameOffset < 0 || nameLength < 0 || (long) nameOffset + nameLength > stringTableSize) {
+            report.addWarning("Skipping corrupted snapshot entry - record " + (index + 1));
+            return null;
+        }
+        byte[] nameBytes = new byte[nameLength];
+        buffer.get(stringTableStart + nameOffset, nameBytes);
+        String name = new String(nameBytes, StandardCharsets.UTF_8);
+
+        try {
+            switch (type) {
+            case TODO:
+                return new ToDo(name, isDone);
+            case DEADLINE:
+                return new Deadline(name, fromEpochMinute(start), isDone);
+            case EVENT:
+                return new Event(name, fromEpochMinute(start), fromEpochMinute(end), isDone);
+            default:
+                report.addWarning("Unknown task type in snapshot: " + (char) type);
+                return null;
+            }
+        } catch (PiggyException | DateTimeException e) {
+            report.addWarning("Skipping invalid snapshot entry - " + name);
+            return null;
+        }
+    }
+
+    private static void writeRecord(ByteBuffer records, Task task, int nameOffset, int nameLength) {
+        byte type;
+        long start = NO_TIME;
+        long end = NO_TIME;
+        if (task instanceof Deadline) {
+            type = DEADLINE;
+            start = toEpochMinute(((Deadline) task).getDueDate());
+        } else if (task instanceof Event) {
+            type = EVENT;
+            start = toEpochMinute(((Event) task).getStart());
+            end = toEpochMinute(((Event) task).getEnd());
+        } else {
+            type = TODO;
+        }
+        records.put(type)
+                .put((byte) task.status().charAt(0))
+                .putShort((short) 0) // Reserved
+                .putInt(nameOffset)
+                .putInt(nameLength)
+                .putLong(start)
+                .putLong(end);
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int extra) {
+        if (buffer.remaining() >= extra) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + extra));
+        buffer.flip();
+        return larger.put(buffer);
+    }
+
+    static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60); // Rounds down before 1970 too
+    }
+
+    static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+}
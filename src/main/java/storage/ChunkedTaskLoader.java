@@ -0,0 +1,110 @@
+package storage;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import tasks.Task;
+
+/**
+ * Loads the text task file by parsing newline-aligned chunks of it in parallel.
+ * Each chunk is parsed on the common ForkJoin pool with its own LoadReport,
+ * and the results are merged back in file order.
+ */
+class ChunkedTaskLoader {
+    static final int MIN_CHUNK_SIZE = 64 * 1024;
+
+    private static final Charset CHARSET = Charset.defaultCharset(); // Matches FileWriter in Storage
+
+    /**
+     * Loads every task in the given text file.
+     * Files smaller than two chunks are parsed on the calling thread.
+     *
+     * @param file The text task file.
+     * @param report The report that collects warnings about skipped lines.
+     * @return An ArrayList of the tasks, in file order.
+     * @throws IOException If the file cannot be read.
+     */
+    static ArrayList<Task> load(Path file, LoadReport report) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        int[] boundaries = splitIntoChunks(content);
+        int chunkCount = boundaries.length - 1;
+        if (chunkCount == 1) {
+            return parseChunk(content, 0, content.length, report);
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        LoadReport[] chunkReports = new LoadReport[chunkCount];
+        ArrayList<ForkJoinTask<ArrayList<Task>>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            int from = boundaries[i];
+            int to = boundaries[i + 1];
+            LoadReport chunkReport = new LoadReport();
+            chunkReports[i] = chunkReport;
+            chunks.add(pool.submit(() -> parseChunk(content, from, to, chunkReport)));
+        }
+
+        ArrayList<Task> taskList = new ArrayList<>();
+        for (int i = 0; i < chunkCount; i++) {
+            taskList.addAll(chunks.get(i).join());
+            report.merge(chunkReports[i]);
+        }
+        return taskList;
+    }
+
+    /**
+     * Splits the content into roughly equal byte ranges that each end just after a newline.
+     *
+     * @return The chunk boundaries; chunk i covers [boundaries[i], boundaries[i + 1]).
+     */
+    private static int[] splitIntoChunks(byte[] content) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunkCount = Math.max(1, Math.min(content.length / MIN_CHUNK_SIZE, parallelism * 4));
+        int chunkSize = content.length / chunkCount;
+
+        int[] boundaries = new int[chunkCount + 1];
+        int count = 1;
+        for (int i = 1; i < chunkCount; i++) {
+            int boundary = Math.max(i * chunkSize, boundaries[count - 1]);
+            while (boundary < content.length && content[boundary - 1] != '\n') {
+                boundary++;
+            }
+            if (boundary < content.length && boundary > boundaries[count - 1]) {
+                boundaries[count++] = boundary;
+            }
+        }
+        boundaries[count++] = content.length;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * Decodes the chunk once and parses each of its lines in place, without creating a String per line.
+     */
+    private static ArrayList<Task> parseChunk(byte[] content, int from, int to, LoadReport report) {
+        String chunk = new String(content, from, to - from, CHARSET);
+        ArrayList<Task> tasks = new ArrayList<>();
+        int lineStart = 0;
+        while (lineStart < chunk.length()) {
+            int lineEnd = chunk.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = chunk.length();
+            }
+            int nextLine = lineEnd + 1;
+            if (lineEnd > lineStart && chunk.charAt(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            Task task = TaskLineParser.parse(chunk, lineStart, lineEnd, report);
+            if (task != null) {
+                tasks.add(task);
+            }
+            lineStart = nextLine;
+        }
+        return tasks;
+    }
+}
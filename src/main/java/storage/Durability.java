@@ -0,0 +1,26 @@
+package storage;
+
+/**
+ * Represents how eagerly changes are written to disk.
+ */
+public enum Durability {
+    PER_COMMAND, // Write before each command returns
+    BATCHED; // Write in the background, coalescing bursts of commands into one write
+
+    /**
+     * Converts a configuration string into a corresponding Durability.
+     * Unrecognised values fall back to writing on every command.
+     *
+     * @param input The durability as a string.
+     * @return The corresponding Durability.
+     */
+    public static Durability fromString(String input) {
+        switch (input.toLowerCase()) {
+        case "batched":
+            return BATCHED;
+        case "sync":
+        default:
+            return PER_COMMAND;
+        }
+    }
+}
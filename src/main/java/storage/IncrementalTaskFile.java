@@ -0,0 +1,132 @@
+package storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import exception.PiggyException;
+import tasks.Task;
+import tasks.TaskList;
+
+/**
+ * Keeps the task file in sync by writing only what changed since the last save.
+ * The status of a task is a single byte at a known offset in both formats: the first byte of its line
+ * in the text file, and a fixed field of its record in a binary snapshot. Marking or unmarking a task
+ * is therefore a one-byte positioned write, and new tasks are appended to the end of a text file.
+ * Removals, additions to a binary snapshot, and files that do not match the loaded list
+ * fall back to rewriting the whole file.
+ */
+class IncrementalTaskFile {
+    private static final Charset CHARSET = Charset.defaultCharset(); // Matches FileWriter in Storage
+
+    private final Path file = Paths.get(Storage.FILE_PATH);
+    private long[] lineOffsets = new long[0]; // Byte offset of each task's line in the text file
+    private long fileEnd;
+    private boolean isBinary;
+    private boolean isInSync; // Whether the offsets describe the file on disk
+
+    /**
+     * Records where each task is stored in the task file.
+     * If the file does not hold exactly one entry per task, the next save rewrites it.
+     *
+     * @param tasks The tasks that were loaded from the file.
+     */
+    void index(List<Task> tasks) {
+        isInSync = false;
+        try {
+            isBinary = BinarySnapshot.isBinary(file);
+            if (isBinary) {
+                isInSync = BinarySnapshot.readRecordCount(file) == tasks.size();
+            } else {
+                isInSync = indexLines(Files.readAllBytes(file), tasks);
+            }
+        } catch (IOException e) {
+            isInSync = false;
+        }
+    }
+
+    /**
+     * Writes every change made to the task list since it was last saved.
+     *
+     * @param taskList The task list to save.
+     * @throws PiggyException If the file cannot be updated.
+     */
+    void save(TaskList taskList) throws PiggyException {
+        List<Task> tasks = taskList.getAllTasks();
+        boolean hasAppends = taskList.getSavedSize() < tasks.size();
+        if (!isInSync || taskList.hasRemovals() || (isBinary && hasAppends)) {
+            Storage.updateList(taskList.getAllTasks());
+            index(tasks);
+            taskList.markSaved();
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            for (int position : taskList.getDirtyPositions()) {
+                ByteBuffer status = ByteBuffer.wrap(tasks.get(position).status().getBytes(CHARSET));
+                channel.write(status, isBinary ? BinarySnapshot.statusOffset(position) : lineOffsets[position]);
+            }
+            if (hasAppends) {
+                appendLines(channel, tasks, taskList.getSavedSize());
+            }
+        } catch (IOException e) {
+            isInSync = false; // The file may be partly updated, so rewrite it next time
+            throw new PiggyException("An error occurred while updating the task list: " + e.getMessage());
+        }
+        taskList.markSaved();
+    }
+
+    /**
+     * Formats the tasks from the given position onwards and writes them at the end of the file in one write.
+     */
+    private void appendLines(FileChannel channel, List<Task> tasks, int from) throws IOException {
+        ensureCapacity(tasks.size());
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (int i = from; i < tasks.size(); i++) {
+            lineOffsets[i] = fileEnd + lines.size();
+            lines.writeBytes((Storage.formatTask(tasks.get(i)) + System.lineSeparator()).getBytes(CHARSET));
+        }
+        channel.write(ByteBuffer.wrap(lines.toByteArray()), fileEnd);
+        fileEnd += lines.size();
+    }
+
+    /**
+     * Records the offset of every line, checking that each line starts with the status of its task.
+     *
+     * @return true if the file holds exactly one line per task; false otherwise.
+     */
+    private boolean indexLines(byte[] content, List<Task> tasks) {
+        ensureCapacity(tasks.size());
+        int lineCount = 0;
+        int lineStart = 0;
+        while (lineStart < content.length) {
+            if (lineCount == tasks.size() || content[lineStart] != tasks.get(lineCount).status().charAt(0)) {
+                return false;
+            }
+            lineOffsets[lineCount++] = lineStart;
+            while (lineStart < content.length && content[lineStart] != '\n') {
+                lineStart++;
+            }
+            if (lineStart == content.length) {
+                return false; // The last line has no line break, so appending would join onto it
+            }
+            lineStart++;
+        }
+        fileEnd = content.length;
+        return lineCount == tasks.size();
+    }
+
+    private void ensureCapacity(int size) {
+        if (lineOffsets.length < size) {
+            lineOffsets = Arrays.copyOf(lineOffsets, Math.max(size, lineOffsets.length * 2));
+        }
+    }
+}
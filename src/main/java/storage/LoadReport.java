@@ -0,0 +1,69 @@
+package storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the warnings raised while loading tasks from disk,
+ * so that they can be reported once instead of being printed line by line.
+ */
+public class LoadReport {
+    private static final int MAX_SHOWN_WARNINGS = 20;
+    private final ArrayList<String> warnings = new ArrayList<>();
+
+    /**
+     * Records a warning about an entry that was skipped.
+     *
+     * @param warning The warning message.
+     */
+    public void addWarning(String warning) {
+        warnings.add(warning);
+    }
+
+    /**
+     * Appends all warnings from another report, keeping their order.
+     *
+     * @param other The report to merge into this one.
+     */
+    public void merge(LoadReport other) {
+        warnings.addAll(other.warnings);
+    }
+
+    /**
+     * Gets the warnings recorded so far.
+     *
+     * @return The warnings, in the order they were raised.
+     */
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    /**
+     * Checks whether any warning was recorded.
+     *
+     * @return true if there is at least one warning; false otherwise.
+     */
+    public boolean hasWarnings() {
+        return !warnings.isEmpty();
+    }
+
+    /**
+     * Returns a summary of the warnings, listing at most the first few of them.
+     *
+     * @return The formatted report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("Warning: Skipped ")
+                .append(warnings.size())
+                .append(warnings.size() == 1 ? " entry" : " entries")
+                .append(" while loading tasks:");
+        for (int i = 0; i < Math.min(warnings.size(), MAX_SHOWN_WARNINGS); i++) {
+            report.append("\n - ").append(warnings.get(i));
+        }
+        if (warnings.size() > MAX_SHOWN_WARNINGS) {
+            report.append("\n ...and ").append(warnings.size() - MAX_SHOWN_WARNINGS).append(" more");
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package storage;
+
+import java.util.ArrayList;
+
+import exception.PiggyException;
+import tasks.Task;
+import tasks.TaskList;
+import tasks.TaskListListener;
+
+/**
+ * Represents a strategy for keeping the task list saved on disk.
+ * A Persistence is registered as a listener on the TaskList it loads,
+ * and is asked to commit after every command that modifies the list.
+ */
+public interface Persistence extends TaskListListener {
+    /**
+     * Loads the saved tasks from disk. Entries that cannot be read are skipped and recorded in the report,
+     * for the caller to show.
+     *
+     * @param report The report that collects warnings about skipped entries.
+     * @return An ArrayList of the saved tasks.
+     * @throws PiggyException If the saved tasks cannot be read.
+     */
+    ArrayList<Task> load(LoadReport report) throws PiggyException;
+
+    /**
+     * Saves all modifications made to the task list since the last commit.
+     *
+     * @param taskList The task list that was modified.
+     * @throws PiggyException If the modifications cannot be saved.
+     */
+    void commit(TaskList taskList) throws PiggyException;
+
+    /**
+     * Forgets the modifications made to the task list since the last commit,
+     * once the list has been restored to how it was at that commit.
+     *
+     * @param taskList The task list that was restored.
+     */
+    void discard(TaskList taskList);
+
+    /**
+     * Writes any committed modifications that are still waiting to be saved.
+     *
+     * @throws PiggyException If the modifications cannot be saved.
+     */
+    void flush() throws PiggyException;
+
+    /**
+     * Finishes any outstanding work and releases resources before the application exits.
+     *
+     * @throws PiggyException If outstanding modifications cannot be saved.
+     */
+    void close() throws PiggyException;
+}
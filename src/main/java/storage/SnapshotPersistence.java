@@ -0,0 +1,166 @@
+package storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.Task;
+import tasks.TaskLayout;
+import tasks.TaskList;
+import tasks.ToDo;
+
+/**
+ * Saves the task list directly to the storage file.
+ * Each commit writes only the tasks that changed since the last commit, patching them in place.
+ * With {@link Durability#BATCHED}, each commit only hands the changes it made to a background writer thread,
+ * which applies them to its own copy of the list and patches the file from that copy. The copy is kept
+ * in the columnar layout, and the changes carry copies of the new tasks, so no task is shared between threads
+ * and a commit costs the same however long the list is.
+ */
+public class SnapshotPersistence implements Persistence {
+    private final IncrementalTaskFile taskFile = new IncrementalTaskFile();
+    private final BackgroundFlusher flusher;
+    private final ArrayList<Consumer<TaskList>> pendingChanges = new ArrayList<>(); // Of the command in progress
+    private final ArrayList<Consumer<TaskList>> committedChanges = new ArrayList<>(); // Guarded by this
+    private TaskList savedList; // The writer's copy of the list, if batched
+
+    /**
+     * Constructs a SnapshotPersistence that writes to the file on every commit.
+     */
+    public SnapshotPersistence() {
+        this(Durability.PER_COMMAND, 0);
+    }
+
+    /**
+     * Constructs a SnapshotPersistence with the given durability.
+     *
+     * @param durability Whether to write on every commit or in background batches.
+     * @param flushIntervalMillis How often the background writer runs, in milliseconds, if batched.
+     */
+    public SnapshotPersistence(Durability durability, long flushIntervalMillis) {
+        this.flusher = durability == Durability.BATCHED
+                ? new BackgroundFlusher("snapshot-writer", flushIntervalMillis, this::writeCommittedChanges)
+                : null;
+    }
+
+    /**
+     * Loads the storage file, together with any journal left by the journal mode, which holds changes
+     * the file does not have yet. Such a journal is folded into the file before anything else is saved.
+     *
+     * @param report The report that collects warnings about skipped entries and corrupted records.
+     * @return An ArrayList of the saved tasks.
+     * @throws PiggyException If the file or a journal cannot be read, or the journal cannot be folded in.
+     */
+    @Override
+    public ArrayList<Task> load(LoadReport report) throws PiggyException {
+        ArrayList<Task> taskList = Storage.loadList(report);
+        if (TaskJournal.hasJournal()) {
+            try {
+                TaskJournal.replayJournals(taskList, report);
+            } catch (IOException e) {
+                throw new PiggyException("An error occurred while replaying the task journal: " + e.getMessage());
+            }
+            Storage.updateList(taskList); // Also removes the journal, now that the file holds its changes
+        }
+        taskFile.index(taskList);
+        if (flusher != null) {
+            savedList = new TaskList(taskList, TaskLayout.COLUMNAR); // Copies every task into its columns
+        }
+        return taskList;
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        if (flusher != null) {
+            Task copy = copyOf(task);
+            pendingChanges.add(saved -> saved.add(copy));
+        }
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        if (flusher != null) {
+            pendingChanges.add(saved -> saved.remove(index));
+        }
+    }
+
+    @Override
+    public void taskStatusChanged(int index, Task task) {
+        if (flusher == null) {
+            return;
+        }
+        if (task.isDone()) {
+            pendingChanges.add(saved -> saved.mark(index));
+        } else {
+            pendingChanges.add(saved -> saved.unmark(index));
+        }
+    }
+
+    @Override
+    public void commit(TaskList taskList) throws PiggyException {
+        if (flusher == null) {
+            taskFile.save(taskList);
+            return;
+        }
+        synchronized (this) {
+            committedChanges.addAll(pendingChanges);
+        }
+        pendingChanges.clear();
+        taskList.markSaved(); // The changes are now the writer's responsibility
+        flusher.markDirty();
+    }
+
+    @Override
+    public void discard(TaskList taskList) {
+        pendingChanges.clear();
+        taskList.markSaved(); // The list matches the file again, so nothing needs patching
+    }
+
+    @Override
+    public void flush() throws PiggyException {
+        if (flusher != null) {
+            flusher.flush();
+        }
+    }
+
+    @Override
+    public void close() throws PiggyException {
+        if (flusher != null) {
+            flusher.close();
+        }
+    }
+
+    /**
+     * Applies the committed changes to the writer's copy of the list and saves what changed.
+     * Runs on one thread at a time. If the save fails, the copy keeps track of what is unsaved for the retry.
+     */
+    private void writeCommittedChanges() throws PiggyException {
+        ArrayList<Consumer<TaskList>> changes;
+        synchronized (this) {
+            changes = new ArrayList<>(committedChanges);
+            committedChanges.clear();
+        }
+        for (Consumer<TaskList> change : changes) {
+            change.accept(savedList);
+        }
+        taskFile.save(savedList);
+    }
+
+    private static Task copyOf(Task task) {
+        if (task instanceof Deadline) {
+            return new Deadline(task.getName(), ((Deadline) task).getDueDate(), task.isDone());
+        }
+        if (task instanceof Event) {
+            Event event = (Event) task;
+            try {
+                return new Event(event.getName(), event.getStart(), event.getEnd(), event.isDone());
+            } catch (PiggyException e) {
+                throw new AssertionError("An existing event always starts before it ends", e);
+            }
+        }
+        return new ToDo(task.getName(), task.isDone());
+    }
+}
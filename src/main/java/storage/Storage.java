@@ -1,13 +1,16 @@
 package storage;
 
-import java.io.BufferedReader; //read data source file (line by line) - input needs to be wrapped by FileReader
 import java.io.BufferedWriter; //read data source file (line by line) - input needs to be wrapped by FileReader
 import java.io.File; //no r/w - only interacts with file metadata (exists, size, etc.)
-import java.io.FileReader; // reads file contents (char by char)
 import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
 
 import exception.PiggyException;
 import tasks.Deadline;
@@ -20,14 +23,35 @@ import tasks.ToDo;
  * Provides methods to load, save, and ensure the file's existence.
  */
 public class Storage {
-    private static final String FILE_PATH = "data/taskList.txt";
-    private static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+    static final String FILE_PATH = "data/taskList.txt";
+    static final String JOURNAL_PATH = "data/taskList.journal";
+    static final String ROTATED_JOURNAL_PATH = "data/taskList.journal.old";
+    static final String MERGED_JOURNAL_PATH = "data/taskList.journal.merged";
+    static final String SNAPSHOT_TEMP_PATH = "data/taskList.txt.tmp";
     private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
 
+    /**
+     * Opens the persistence strategy for the given storage mode and durability.
+     *
+     * @param mode The storage mode to use.
+     * @param durability Whether to write on every command or in background batches.
+     * @param flushIntervalMillis How often the background writer runs, in milliseconds, if batched.
+     * @return The Persistence implementation for that mode.
+     */
+    public static Persistence open(StorageMode mode, Durability durability, long flushIntervalMillis) {
+        switch (mode) {
+        case SNAPSHOT:
+            return new SnapshotPersistence(durability, flushIntervalMillis);
+        case JOURNAL:
+        default:
+            return new TaskJournal(TaskJournal.DEFAULT_COMPACTION_THRESHOLD, durability, flushIntervalMillis);
+        }
+    }
+
     /**
      * Ensures the task file and its parent directory exist.
      */
-    private static void ensureFileExists() {
+    static void ensureFileExists() {
         try {
             File file = new File(FILE_PATH);
             File parentDir = file.getParentFile();
@@ -45,23 +69,21 @@ public class Storage {
 
     /**
      * Loads the list of tasks from the file into an ArrayList.
-     * Parses each line and reconstructs corresponding Task objects.
+     * Detects whether the file is a binary snapshot or the text format,
+     * then reconstructs the corresponding Task objects. Text files are parsed in parallel chunks.
      *
+     * @param report The report that collects warnings about skipped entries.
      * @return An ArrayList of Task objects representing the saved tasks.
      * @throws PiggyException If an error occurs while loading tasks from the file.
      */
-    public static ArrayList<Task> loadList() throws PiggyException {
+    public static ArrayList<Task> loadList(LoadReport report) throws PiggyException {
         ensureFileExists();
-        ArrayList<Task> taskList = new ArrayList<>();
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(FILE_PATH))) {
-            String currLine;
-
-            while ((currLine = reader.readLine()) != null) {
-                Task task = parseTask(currLine);
-                if (task != null) {
-                    taskList.add(task);
-                }
+        ArrayList<Task> taskList;
+        try {
+            if (isBinarySnapshot()) {
+                taskList = BinarySnapshot.read(Paths.get(FILE_PATH), report);
+            } else {
+                taskList = ChunkedTaskLoader.load(Paths.get(FILE_PATH), report);
             }
         } catch (Exception e) {
             throw new PiggyException("An error occurred while loading tasks: " + e.getMessage());
@@ -75,96 +97,24 @@ public class Storage {
      * Parses a task entry from the file and reconstructs the corresponding Task object.
      *
      * @param line The line read from the file.
+     * @param report The report that collects a warning if the line is skipped.
      * @return A Task object or null if parsing fails.
      */
-    private static Task parseTask(String line) {
-        String[] taskParts = line.split(" \\| ");
-        if (taskParts.length < 3) {
-            System.out.println("Warning: Skipping corrupted entry - " + line);
-            return null;
-        }
-
-        String status = taskParts[0].trim();
-        boolean isDone = status.equals("X");
-        String typeAndName = taskParts[1].trim();
-
-        if (!typeAndName.contains(":")) {
-            System.out.println("Warning: Skipping malformed task entry - " + line);
-            return null;
-        }
-
-        String[] typeSplit = typeAndName.split(":");
-        if (typeSplit.length < 2) {
-            System.out.println("Warning: Skipping invalid task format - " + line);
-            return null;
-        }
-
-        String type = typeSplit[0].trim();
-        String description = typeSplit[1].trim();
-        String timeInfo = taskParts[2].trim();
-
-        return createTask(type, description, timeInfo, isDone, line);
-    }
-
-    /**
-     * Creates a Task object based on the provided parameters.
-     *
-     * @param type        The task type (T, D, E).
-     * @param description The task description.
-     * @param timeInfo    The time information for Deadline/Event.
-     * @param isDone      Whether the task is marked as done.
-     * @param line        The original line from the file for error logging.
-     * @return A Task object or null if creation fails.
-     */
-    private static Task createTask(String type, String description, String timeInfo, boolean isDone, String line) {
-        try {
-            switch (type) {
-            case "T":
-                return new ToDo(description, isDone);
-            case "D":
-                return createDeadline(description, timeInfo, isDone, line);
-            case "E":
-                return createEvent(description, timeInfo, isDone, line);
-            default:
-                System.out.println("Warning: Unknown task type in file: " + type);
-                return null;
-            }
-        } catch (PiggyException e) {
-            System.out.println("Warning: Skipping invalid entry - " + line);
-            return null;
-        }
-    }
-
-    private static Task createDeadline(String description, String timeInfo, boolean isDone, String line)
-            throws PiggyException {
-        if (!timeInfo.startsWith("by: ")) {
-            throw new PiggyException("Invalid time format for deadline - " + line);
-        }
-        String dateStr = timeInfo.substring(4).trim();
-        LocalDateTime by = LocalDateTime.parse(dateStr, INPUT_FORMATTER);
-        return new Deadline(description, by, isDone);
-    }
-
-    private static Task createEvent(String description, String timeInfo, boolean isDone, String line)
-            throws PiggyException {
-        if (!timeInfo.startsWith("from: ") || !timeInfo.contains(", to: ")) {
-            throw new PiggyException("Invalid time format for event - " + line);
-        }
-        String[] eventParts = timeInfo.split(", to: ");
-        LocalDateTime from = LocalDateTime.parse(eventParts[0].substring(6).trim(), INPUT_FORMATTER);
-        LocalDateTime to = LocalDateTime.parse(eventParts[1].trim(), INPUT_FORMATTER);
-        return new Event(description, from, to, isDone);
+    static Task parseTask(String line, LoadReport report) {
+        return TaskLineParser.parse(line, 0, line.length(), report);
     }
 
     /**
      * Updates the storage file with the current list of tasks.
      * Creates a backup before writing and restores it if an error occurs.
+     * A successful update supersedes any journal left behind, so the journal files are removed.
      *
      * @param taskList The list of tasks to be saved.
      * @throws PiggyException If an error occurs while updating the file.
      */
-    public static void updateList(ArrayList<Task> taskList) throws PiggyException {
+    public static void updateList(List<Task> taskList) throws PiggyException {
         ensureFileExists();
+        boolean isBinary = isBinarySnapshot();
         File originalFile = new File(FILE_PATH);
         File backupFile = new File(FILE_PATH + ".bak");
 
@@ -173,11 +123,11 @@ public class Storage {
             originalFile.renameTo(backupFile);
         }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_PATH))) {
-            for (Task task : taskList) {
-                writer.write(formatTask(task));
-                writer.newLine();
-            }
+        try {
+            writeTasks(taskList, Paths.get(FILE_PATH), isBinary);
+            Files.deleteIfExists(Paths.get(JOURNAL_PATH));
+            Files.deleteIfExists(Paths.get(ROTATED_JOURNAL_PATH));
+            Files.deleteIfExists(Paths.get(MERGED_JOURNAL_PATH));
         } catch (Exception e) {
             if (backupFile.exists()) {
                 backupFile.renameTo(originalFile);
@@ -190,13 +140,49 @@ public class Storage {
         }
     }
 
+    /**
+     * Checks whether the task file is currently stored in the binary snapshot format.
+     * Later saves keep whichever format the file is already in.
+     *
+     * @return true if the task file is a binary snapshot; false if it is text or unreadable.
+     */
+    static boolean isBinarySnapshot() {
+        try {
+            return BinarySnapshot.isBinary(Paths.get(FILE_PATH));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes every task to the given file, either as a binary snapshot
+     * or as one formatted line per task.
+     *
+     * @param taskList The tasks to write.
+     * @param target The file to write to.
+     * @param isBinary Whether to use the binary snapshot format.
+     * @throws IOException If the file cannot be written.
+     */
+    static void writeTasks(List<Task> taskList, Path target, boolean isBinary) throws IOException {
+        if (isBinary) {
+            BinarySnapshot.write(taskList, target);
+            return;
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(target.toFile()))) {
+            for (Task task : taskList) {
+                writer.write(formatTask(task));
+                writer.newLine();
+            }
+        }
+    }
+
     /**
      * Formats a Task object into a string suitable for storage.
      *
      * @param task The task to format.
      * @return A formatted string representation of the task.
      */
-    private static String formatTask(Task task) {
+    static String formatTask(Task task) {
         String status = task.status();
         String type;
         String timeInfo = "--";
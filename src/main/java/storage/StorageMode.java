@@ -0,0 +1,26 @@
+package storage;
+
+/**
+ * Represents the different ways the task list can be saved to disk.
+ */
+public enum StorageMode {
+    SNAPSHOT, // Write the changed tasks directly to the file after every change
+    JOURNAL; // Append each change to a journal that is periodically compacted
+
+    /**
+     * Converts a configuration string into a corresponding StorageMode.
+     * Unrecognised values fall back to the journal.
+     *
+     * @param input The storage mode as a string.
+     * @return The corresponding StorageMode.
+     */
+    public static StorageMode fromString(String input) {
+        switch (input.toLowerCase()) {
+        case "snapshot":
+            return SNAPSHOT;
+        case "journal":
+        default:
+            return JOURNAL;
+        }
+    }
+}
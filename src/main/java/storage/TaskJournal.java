@@ -0,0 +1,438 @@
+package storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import exception.PiggyException;
+import tasks.Task;
+import tasks.TaskList;
+
+/**
+ * Saves the task list as a snapshot plus an append-only journal of changes.
+ * Each modification appends one small record instead of rewriting every task.
+ * Once the journal grows past a threshold, it is folded into a fresh snapshot in the background.
+ * With {@link Durability#BATCHED}, committed records are appended by a background writer thread
+ * instead of before each command returns.
+ *
+ * <p>Compaction protocol: an empty snapshot temp file is created and the journal is rotated
+ * before the background write starts. The temp file is renamed over the snapshot only when
+ * complete, and the rotated journal is deleted afterwards. On startup, a rotated journal
+ * alongside a temp file means the snapshot was not replaced, so the rotated journal is replayed;
+ * without a temp file, the snapshot already contains it and it is discarded.</p>
+ *
+ * <p>If the background write fails, the rotated journal is merged back in front of the live journal:
+ * both are copied into a merged journal, the temp file is deleted, then the rotated journal, and finally
+ * the merged journal replaces the live one. On startup, a merged journal without a temp file is complete
+ * and holds every record, so the merge is finished before replaying; with a temp file, it is incomplete
+ * and discarded. The failure is reported by the next commit, or by close.</p>
+ */
+public class TaskJournal implements Persistence {
+    static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final String ADD = "ADD";
+    private static final String MARK = "MARK";
+    private static final String UNMARK = "UNMARK";
+    private static final String DELETE = "DELETE";
+    private static final String SEPARATOR = " | ";
+    private static final Path SNAPSHOT_FILE = Paths.get(Storage.FILE_PATH);
+    private static final Path JOURNAL_FILE = Paths.get(Storage.JOURNAL_PATH);
+    private static final Path ROTATED_JOURNAL_FILE = Paths.get(Storage.ROTATED_JOURNAL_PATH);
+    private static final Path TEMP_FILE = Paths.get(Storage.SNAPSHOT_TEMP_PATH);
+    private static final Path MERGED_JOURNAL_FILE = Paths.get(Storage.MERGED_JOURNAL_PATH);
+
+    private final long compactionThreshold;
+    private final StringBuilder pendingRecords = new StringBuilder(); // Records of the command in progress
+    private final StringBuilder committedRecords = new StringBuilder(); // Records not yet written; guarded by this
+    private final BackgroundFlusher flusher;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> compaction;
+    private long journalSize;
+
+    /**
+     * Constructs a TaskJournal that writes on every commit and compacts once the journal reaches the given size.
+     *
+     * @param compactionThreshold The journal size in bytes that triggers compaction.
+     */
+    public TaskJournal(long compactionThreshold) {
+        this(compactionThreshold, Durability.PER_COMMAND, 0);
+    }
+
+    /**
+     * Constructs a TaskJournal with the given durability.
+     *
+     * @param compactionThreshold The journal size in bytes that triggers compaction.
+     * @param durability Whether to write on every commit or in background batches.
+     * @param flushIntervalMillis How often the background writer runs, in milliseconds, if batched.
+     */
+    public TaskJournal(long compactionThreshold, Durability durability, long flushIntervalMillis) {
+        assert compactionThreshold > 0 : "Compaction threshold should be positive";
+        this.compactionThreshold = compactionThreshold;
+        this.flusher = durability == Durability.BATCHED
+                ? new BackgroundFlusher("journal-writer", flushIntervalMillis, this::writeCommittedRecords)
+                : null;
+    }
+
+    /**
+     * Loads the snapshot and replays the journal on top of it.
+     *
+     * @param report The report that collects warnings about skipped entries and corrupted records.
+     * @return An ArrayList of the saved tasks.
+     * @throws PiggyException If the snapshot or journal cannot be read.
+     */
+    @Override
+    public ArrayList<Task> load(LoadReport report) throws PiggyException {
+        ArrayList<Task> taskList = Storage.loadList(report);
+        try {
+            if (replayJournals(taskList, report)) {
+                // Fold everything into one snapshot so that the next compaction can rotate freely
+                Storage.updateList(taskList);
+            }
+            journalSize = Files.exists(JOURNAL_FILE) ? Files.size(JOURNAL_FILE) : 0;
+        } catch (IOException e) {
+            throw new PiggyException("An error occurred while replaying the task journal: " + e.getMessage());
+        }
+        return taskList;
+    }
+
+    /**
+     * Checks whether any journal is left beside the snapshot, holding changes the snapshot does not have yet.
+     *
+     * @return true if a live, rotated or merged journal exists; false otherwise.
+     */
+    static boolean hasJournal() {
+        return Files.exists(JOURNAL_FILE) || Files.exists(ROTATED_JOURNAL_FILE) || Files.exists(MERGED_JOURNAL_FILE);
+    }
+
+    /**
+     * Applies the journals left beside the snapshot to the tasks loaded from it, after finishing
+     * or discarding an interrupted merge, and discarding the temp file of an interrupted compaction.
+     *
+     * @param taskList The tasks loaded from the snapshot.
+     * @param report The report that collects warnings about corrupted records.
+     * @return true if a rotated journal was found, which only goes away once the snapshot is rewritten.
+     * @throws IOException If a journal cannot be read or an interrupted merge cannot be finished.
+     */
+    static boolean replayJournals(ArrayList<Task> taskList, LoadReport report) throws IOException {
+        if (Files.exists(MERGED_JOURNAL_FILE)) {
+            if (Files.exists(TEMP_FILE)) {
+                Files.delete(MERGED_JOURNAL_FILE); // The merge never finished, so the rotated journal still applies
+            } else {
+                finishMerge();
+            }
+        }
+        boolean hasRotated = Files.exists(ROTATED_JOURNAL_FILE);
+        if (hasRotated && Files.exists(TEMP_FILE)) {
+            // The last compaction never replaced the snapshot, so its records still apply
+            replay(ROTATED_JOURNAL_FILE, taskList, report);
+        }
+        Files.deleteIfExists(TEMP_FILE);
+        replay(JOURNAL_FILE, taskList, report);
+        return hasRotated;
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        appendRecord(ADD, Storage.formatTask(task));
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        appendRecord(DELETE, String.valueOf(index));
+    }
+
+    @Override
+    public void taskStatusChanged(int index, Task task) {
+        appendRecord(task.status().equals("X") ? MARK : UNMARK, String.valueOf(index));
+    }
+
+    /**
+     * Commits the records of the last command, compacting the journal if it has grown too large.
+     * The records are appended immediately, or handed to the background writer if batched.
+     *
+     * @param taskList The task list that was modified.
+     * @throws PiggyException If the records cannot be written.
+     */
+    @Override
+    public void commit(TaskList taskList) throws PiggyException {
+        if (pendingRecords.length() == 0) {
+            return;
+        }
+        synchronized (this) {
+            committedRecords.append(pendingRecords);
+        }
+        pendingRecords.setLength(0);
+
+        if (flusher == null) {
+            writeCommittedRecords();
+        } else {
+            flusher.markDirty();
+        }
+        checkCompaction();
+        if (getUnflushedJournalSize() >= compactionThreshold && !isCompacting()) {
+            startCompaction(taskList);
+        }
+    }
+
+    /**
+     * Drops the records of the modifications since the last commit, which cancel out once the list is restored.
+     *
+     * @param taskList The task list that was restored.
+     */
+    @Override
+    public void discard(TaskList taskList) {
+        pendingRecords.setLength(0);
+    }
+
+    /**
+     * Writes every committed record to the journal on the calling thread.
+     *
+     * @throws PiggyException If the records cannot be written.
+     */
+    @Override
+    public void flush() throws PiggyException {
+        if (flusher == null) {
+            writeCommittedRecords();
+        } else {
+            flusher.flush();
+        }
+    }
+
+    /**
+     * Writes every committed record, stops the background writer and waits for any running compaction.
+     *
+     * @throws PiggyException If the records cannot be written or the compaction failed.
+     */
+    @Override
+    public void close() throws PiggyException {
+        try {
+            if (flusher != null) {
+                flusher.close();
+            }
+            writeCommittedRecords();
+            awaitCompaction();
+            checkCompaction();
+        } catch (InterruptedException e) {
+            throw new PiggyException("Interrupted while waiting for the task journal to be compacted.");
+        } finally {
+            compactor.shutdown();
+        }
+    }
+
+    /**
+     * Appends all committed records to the journal file in one write.
+     * Records are only dropped from memory once they have been written.
+     */
+    private synchronized void writeCommittedRecords() throws PiggyException {
+        if (committedRecords.length() == 0) {
+            return;
+        }
+        Storage.ensureFileExists();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(JOURNAL_FILE.toFile(), true))) {
+            writer.append(committedRecords);
+        } catch (IOException e) {
+            throw new PiggyException("An error occurred while updating the task journal: " + e.getMessage());
+        }
+        journalSize += committedRecords.length();
+        committedRecords.setLength(0);
+    }
+
+    private synchronized long getUnflushedJournalSize() {
+        return journalSize + committedRecords.length();
+    }
+
+    private void appendRecord(String operation, String argument) {
+        pendingRecords.append(operation).append(SEPARATOR).append(argument).append(System.lineSeparator());
+    }
+
+    private boolean isCompacting() {
+        return (compaction != null && !compaction.isDone()) || Files.exists(ROTATED_JOURNAL_FILE);
+    }
+
+    /**
+     * Rotates the journal and writes a fresh snapshot from a copy of the list in the background.
+     * Tasks are shared with the copy, so a later mark/unmark may already be visible in the snapshot;
+     * this is harmless because replaying the same record from the new journal sets the same status.
+     */
+    private synchronized void startCompaction(TaskList taskList) throws PiggyException {
+        writeCommittedRecords(); // The rotated journal must hold every record the copy below reflects
+        try {
+            Files.deleteIfExists(TEMP_FILE);
+            Files.createFile(TEMP_FILE);
+            Files.move(JOURNAL_FILE, ROTATED_JOURNAL_FILE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new PiggyException("An error occurred while compacting the task journal: " + e.getMessage());
+        }
+        journalSize = 0;
+
+        ArrayList<Task> snapshot = new ArrayList<>(taskList.getAllTasks());
+        boolean isBinary = Storage.isBinarySnapshot();
+        compaction = compactor.submit(() -> {
+            writeSnapshot(snapshot, isBinary);
+            Files.move(TEMP_FILE, SNAPSHOT_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.delete(ROTATED_JOURNAL_FILE);
+            return null;
+        });
+    }
+
+    /**
+     * Writes the fresh snapshot of a compaction to the temp file. Runs on the compactor thread.
+     *
+     * @param snapshot The tasks to write.
+     * @param isBinary Whether to write the binary snapshot format.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    void writeSnapshot(ArrayList<Task> snapshot, boolean isBinary) throws IOException {
+        Storage.writeTasks(snapshot, TEMP_FILE, isBinary);
+    }
+
+    private void awaitCompaction() throws InterruptedException {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (ExecutionException e) {
+            // Recovered from and reported by checkCompaction
+        }
+    }
+
+    /**
+     * Recovers from the last compaction once it is done, if it failed, so that compaction can run again.
+     * If the snapshot was never replaced, the rotated journal is merged back in front of the live journal;
+     * otherwise only the rotated journal is left to delete.
+     *
+     * @throws PiggyException If the compaction failed, after recovering from it, or if it cannot be recovered.
+     */
+    private synchronized void checkCompaction() throws PiggyException {
+        if (compaction == null || !compaction.isDone()) {
+            return;
+        }
+        Future<?> finished = compaction;
+        compaction = null;
+        String failure;
+        try {
+            finished.get();
+            return;
+        } catch (ExecutionException e) {
+            failure = e.getCause().getMessage();
+        } catch (InterruptedException e) {
+            compaction = finished; // Check again next time
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            if (Files.exists(TEMP_FILE)) {
+                writeCommittedRecords();
+                mergeRotatedJournal();
+            } else {
+                Files.deleteIfExists(ROTATED_JOURNAL_FILE);
+            }
+        } catch (IOException e) {
+            compaction = finished; // Try the merge again next time
+            throw new PiggyException("Compacting the task journal failed (" + failure
+                    + "), and its records could not be merged back: " + e.getMessage());
+        }
+        throw new PiggyException("Your changes are saved, but compacting the task journal failed: " + failure
+                + "\nIt will be tried again later.");
+    }
+
+    /**
+     * Puts the records of the rotated journal back in front of the live journal, in the order of the protocol.
+     */
+    private void mergeRotatedJournal() throws IOException {
+        try (OutputStream merged = Files.newOutputStream(MERGED_JOURNAL_FILE)) {
+            Files.copy(ROTATED_JOURNAL_FILE, merged);
+            if (Files.exists(JOURNAL_FILE)) {
+                Files.copy(JOURNAL_FILE, merged);
+            }
+        }
+        Files.delete(TEMP_FILE);
+        finishMerge();
+        journalSize = Files.size(JOURNAL_FILE);
+    }
+
+    private static void finishMerge() throws IOException {
+        Files.deleteIfExists(ROTATED_JOURNAL_FILE);
+        Files.move(MERGED_JOURNAL_FILE, JOURNAL_FILE,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Applies every record in a journal file to the task list, skipping corrupted records.
+     */
+    private static void replay(Path journal, ArrayList<Task> taskList, LoadReport report) throws IOException {
+        if (!Files.exists(journal)) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(journal.toFile()))) {
+            String record;
+            while ((record = reader.readLine()) != null) {
+                if (!applyRecord(record, taskList, report)) {
+                    report.addWarning("Skipping corrupted journal entry - " + record);
+                }
+            }
+        }
+    }
+
+    private static boolean applyRecord(String record, ArrayList<Task> taskList, LoadReport report) {
+        String[] recordParts = record.split(" \\| ", 2);
+        if (recordParts.length < 2) {
+            return false;
+        }
+        if (recordParts[0].equals(ADD)) {
+            Task task;
+            try {
+                task = Storage.parseTask(recordParts[1], report);
+            } catch (RuntimeException e) {
+                return false; // A bad date, or the last record torn by a crash while it was appended
+            }
+            if (task == null) {
+                return false;
+            }
+            taskList.add(task);
+            return true;
+        }
+
+        int index;
+        try {
+            index = Integer.parseInt(recordParts[1].trim());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (index < 0 || index >= taskList.size()) {
+            return false;
+        }
+
+        switch (recordParts[0]) {
+        case MARK:
+            taskList.get(index).mark();
+            return true;
+        case UNMARK:
+            taskList.get(index).unmark();
+            return true;
+        case DELETE:
+            taskList.remove(index);
+            return true;
+        default:
+            return false;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package storage;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.Task;
+import tasks.ToDo;
+
+/**
+ * Parses storage lines of the form {@code X | D: name | by: d/M/yyyy HHmm} in a single pass.
+ * The parser works on index ranges of a CharSequence, so the only objects it creates
+ * are the task and its name. It accepts and rejects exactly the same lines as the
+ * original split-based parser, including its quirks (e.g. a name is cut at its first ':').
+ */
+class TaskLineParser {
+    private static final String FIELD_SEPARATOR = " | ";
+    private static final String EVENT_SEPARATOR = ", to: ";
+    private static final String DEADLINE_PREFIX = "by: ";
+    private static final String EVENT_PREFIX = "from: ";
+    private static final DateTimeFormatter FALLBACK_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+
+    /**
+     * Parses the line held in {@code text[from, to)} into a Task.
+     *
+     * @param text The text containing the line.
+     * @param from The index of the first character of the line.
+     * @param to The index just after the last character of the line.
+     * @param report The report that collects a warning if the line is skipped.
+     * @return A Task object or null if the line is skipped.
+     * @throws java.time.format.DateTimeParseException If a date/time cannot be parsed, as before.
+     */
+    static Task parse(CharSequence text, int from, int to, LoadReport report) {
+        int firstSeparator = indexOf(text, FIELD_SEPARATOR, from, to);
+        int secondSeparator = firstSeparator < 0 ? -1 : indexOf(text, FIELD_SEPARATOR, firstSeparator + 3, to);
+        if (secondSeparator < 0) {
+            report.addWarning("Skipping corrupted entry - " + text.subSequence(from, to));
+            return null;
+        }
+        int timeStart = secondSeparator + 3;
+        int timeEnd = indexOf(text, FIELD_SEPARATOR, timeStart, to);
+        if (timeEnd < 0) {
+            timeEnd = to;
+        }
+        if (timeEnd == timeStart && hasOnlySeparators(text, timeEnd, to)) {
+            // String.split drops trailing empty fields, which leaves fewer than three
+            report.addWarning("Skipping corrupted entry - " + text.subSequence(from, to));
+            return null;
+        }
+
+        int statusStart = skipSpaces(text, from, firstSeparator);
+        int statusEnd = trimEnd(text, statusStart, firstSeparator);
+        boolean isDone = statusEnd - statusStart == 1 && text.charAt(statusStart) == 'X';
+
+        int typeStart = skipSpaces(text, firstSeparator + 3, secondSeparator);
+        int typeAndNameEnd = trimEnd(text, typeStart, secondSeparator);
+        int colon = indexOf(text, ':', typeStart, typeAndNameEnd);
+        if (colon < 0) {
+            report.addWarning("Skipping malformed task entry - " + text.subSequence(from, to));
+            return null;
+        }
+        if (!hasNonColon(text, colon + 1, typeAndNameEnd)) {
+            report.addWarning("Skipping invalid task format - " + text.subSequence(from, to));
+            return null;
+        }
+        int typeEnd = trimEnd(text, typeStart, colon);
+        int nameEnd = indexOf(text, ':', colon + 1, typeAndNameEnd);
+        if (nameEnd < 0) {
+            nameEnd = typeAndNameEnd;
+        }
+        int nameStart = skipSpaces(text, colon + 1, nameEnd);
+        nameEnd = trimEnd(text, nameStart, nameEnd);
+
+        int infoStart = skipSpaces(text, timeStart, timeEnd);
+        int infoEnd = trimEnd(text, infoStart, timeEnd);
+
+        char type = typeEnd - typeStart == 1 ? text.charAt(typeStart) : '\0';
+        try {
+            switch (type) {
+            case 'T':
+                return new ToDo(text.subSequence(nameStart, nameEnd).toString(), isDone);
+            case 'D':
+                return createDeadline(text, nameStart, nameEnd, infoStart, infoEnd, isDone);
+            case 'E':
+                return createEvent(text, nameStart, nameEnd, infoStart, infoEnd, isDone);
+            default:
+                report.addWarning("Unknown task type in file: " + text.subSequence(typeStart, typeEnd));
+                return null;
+            }
+        } catch (PiggyException e) {
+            report.addWarning("Skipping invalid entry - " + text.subSequence(from, to));
+            return null;
+        }
+    }
+
+    private static Task createDeadline(CharSequence text, int nameStart, int nameEnd, int infoStart, int infoEnd,
+            boolean isDone) throws PiggyException {
+        if (!startsWith(text, DEADLINE_PREFIX, infoStart, infoEnd)) {
+            throw new PiggyException("Invalid time format for deadline");
+        }
+        int dateStart = skipSpaces(text, infoStart + DEADLINE_PREFIX.length(), infoEnd);
+        LocalDateTime by = parseDateTime(text, dateStart, infoEnd);
+        return new Deadline(text.subSequence(nameStart, nameEnd).toString(), by, isDone);
+    }
+
+    private static Task createEvent(CharSequence text, int nameStart, int nameEnd, int infoStart, int infoEnd,
+            boolean isDone) throws PiggyException {
+        int separator = indexOf(text, EVENT_SEPARATOR, infoStart, infoEnd);
+        if (!startsWith(text, EVENT_PREFIX, infoStart, infoEnd) || separator < 0) {
+            throw new PiggyException("Invalid time format for event");
+        }
+        int fromStart = skipSpaces(text, infoStart + EVENT_PREFIX.length(), separator);
+        int fromEnd = trimEnd(text, fromStart, separator);
+        int toStart = separator + EVENT_SEPARATOR.length();
+        int toEnd = indexOf(text, EVENT_SEPARATOR, toStart, infoEnd);
+        if (toEnd < 0) {
+            toEnd = infoEnd;
+        }
+        toStart = skipSpaces(text, toStart, toEnd);
+        toEnd = trimEnd(text, toStart, toEnd);
+
+        LocalDateTime start = parseDateTime(text, fromStart, fromEnd);
+        LocalDateTime end = parseDateTime(text, toStart, toEnd);
+        return new Event(text.subSequence(nameStart, nameEnd).toString(), start, end, isDone);
+    }
+
+    /**
+     * Decodes a {@code d/M/yyyy HHmm} date/time directly from the characters.
+     * Anything outside the common shape (or out of range) is handed to the DateTimeFormatter,
+     * so the results and errors are identical to parsing with the formatter.
+     */
+    static LocalDateTime parseDateTime(CharSequence text, int from, int to) {
+        int firstSlash = digitsEnd(text, from, to);
+        int secondSlash = digitsEnd(text, firstSlash + 1, to);
+        int space = secondSlash + 5;
+        boolean isCommonShape = firstSlash - from >= 1 && firstSlash - from <= 2 && firstSlash < to
+                && text.charAt(firstSlash) == '/'
+                && secondSlash - firstSlash >= 2 && secondSlash - firstSlash <= 3 && secondSlash < to
+                && text.charAt(secondSlash) == '/'
+                && digitsEnd(text, secondSlash + 1, to) == space && space < to && text.charAt(space) == ' '
+                && to - space == 5 && digitsEnd(text, space + 1, to) == to;
+
+        if (isCommonShape) {
+            int day = toNumber(text, from, firstSlash);
+            int month = toNumber(text, firstSlash + 1, secondSlash);
+            int year = toNumber(text, secondSlash + 1, space);
+            int hour = toNumber(text, space + 1, space + 3);
+            int minute = toNumber(text, space + 3, to);
+            if (day >= 1 && day <= 31 && month >= 1 && month <= 12 && year >= 1 && hour <= 23 && minute <= 59) {
+                // Like the formatter's SMART resolver, clamp the day to the end of the month
+                int monthLength = Month.of(month).length(Year.isLeap(year));
+                return LocalDateTime.of(year, month, Math.min(day, monthLength), hour, minute);
+            }
+        }
+        return LocalDateTime.parse(text.subSequence(from, to), FALLBACK_FORMATTER);
+    }
+
+    private static int indexOf(CharSequence text, String target, int from, int to) {
+        int last = to - target.length();
+        for (int i = from; i <= last; i++) {
+            if (startsWith(text, target, i, to)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSequence text, char target, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(CharSequence text, String prefix, int from, int to) {
+        if (to - from < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(from + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether {@code text[from, to)} consists only of field separators.
+     */
+    private static boolean hasOnlySeparators(CharSequence text, int from, int to) {
+        int cursor = from;
+        while (cursor < to) {
+            if (!startsWith(text, FIELD_SEPARATOR, cursor, to)) {
+                return false;
+            }
+            cursor += FIELD_SEPARATOR.length();
+        }
+        return true;
+    }
+
+    private static boolean hasNonColon(CharSequence text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) != ':') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first index at or after {@code from} that String.trim would keep.
+     */
+    private static int skipSpaces(CharSequence text, int from, int to) {
+        int cursor = from;
+        while (cursor < to && text.charAt(cursor) <= ' ') {
+            cursor++;
+        }
+        return cursor;
+    }
+
+    /**
+     * Returns the index just after the last character in {@code text[from, to)} that String.trim would keep.
+     */
+    private static int trimEnd(CharSequence text, int from, int to) {
+        int cursor = to;
+        while (cursor > from && text.charAt(cursor - 1) <= ' ') {
+            cursor--;
+        }
+        return cursor;
+    }
+
+    private static int digitsEnd(CharSequence text, int from, int to) {
+        int cursor = from;
+        while (cursor < to && text.charAt(cursor) >= '0' && text.charAt(cursor) <= '9') {
+            cursor++;
+        }
+        return cursor;
+    }
+
+    private static int toNumber(CharSequence text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+}
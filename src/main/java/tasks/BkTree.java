@@ -0,0 +1,109 @@
+package tasks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A BK-tree of words, for finding every word within a given edit distance of a query.
+ * Each child is filed under its edit distance from its parent, so by the triangle inequality
+ * a search only needs to visit the children whose distance is within the limit of the query's own distance,
+ * instead of comparing the query against every word.
+ */
+class BkTree {
+    private Node root;
+
+    private static class Node {
+        private final String term;
+        private final HashMap<Integer, Node> children = new HashMap<>();
+
+        Node(String term) {
+            this.term = term;
+        }
+    }
+
+    /**
+     * Adds a word to the tree.
+     *
+     * @param term The word to add.
+     * @return true if the word was added; false if it was already in the tree.
+     */
+    boolean add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            return true;
+        }
+        Node node = root;
+        while (true) {
+            int distance = editDistance(node.term, term);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term));
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Finds every word within the given edit distance of a query.
+     *
+     * @param query The word to compare against.
+     * @param maxDistance The largest edit distance allowed.
+     * @return The words within that distance, in no particular order.
+     */
+    List<String> findWithin(String query, int maxDistance) {
+        ArrayList<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = editDistance(node.term, query);
+            if (distance <= maxDistance) {
+                matches.add(node.term);
+            }
+            for (int childDistance = distance - maxDistance; childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Computes the Levenshtein distance between two words: the fewest single-character insertions,
+     * deletions and substitutions that turn one into the other.
+     *
+     * @param first The first word.
+     * @param second The second word.
+     * @return The edit distance between the words.
+     */
+    static int editDistance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+}
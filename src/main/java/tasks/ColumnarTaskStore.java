@@ -0,0 +1,417 @@
+package tasks;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+import exception.PiggyException;
+
+/**
+ * Holds tasks as a struct of arrays instead of one object per task.
+ * Each task is a row across primitive columns: its type, its start and end as minutes since the epoch (UTC),
+ * its hash code, and the position of its name in a shared character pool; completion is a bit set.
+ * This avoids the object headers and LocalDateTime objects of every task, at the cost of scanning
+ * the columns instead of using the time indexes. Task objects are only created as views when needed,
+ * and a view is a copy: changes must go through the store.
+ * Times are kept to the minute, which is the precision of every task created by the app.
+ * Rows are also chained by hash code in a table of primitive buckets, so a duplicate check only compares
+ * the rows whose hash code matches. Removing a row shifts the rows after it, so the table is rebuilt then,
+ * at the same O(n) cost as shifting the columns.
+ */
+class ColumnarTaskStore implements TaskStore {
+    private static final byte TODO = 'T';
+    private static final byte DEADLINE = 'D';
+    private static final byte EVENT = 'E';
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private long[] ends = new long[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int[] nextInBucket = new int[INITIAL_CAPACITY]; // The next row in the same hash bucket, or -1
+    private int[] hashBuckets = newBuckets(INITIAL_CAPACITY); // The last row added to each bucket, or -1
+    private int[] nameOffsets = new int[INITIAL_CAPACITY];
+    private int[] nameLengths = new int[INITIAL_CAPACITY];
+    private final BitSet doneFlags = new BitSet();
+    private char[] namePool = new char[INITIAL_CAPACITY * 16];
+    private int namePoolSize;
+    private int unusedNameChars; // Characters of removed names, reclaimed once they make up half the pool
+    private long nameWordCount;
+    private int size;
+
+    /**
+     * Constructs a ColumnarTaskStore holding copies of the given tasks.
+     *
+     * @param tasks The tasks to copy into the columns.
+     */
+    ColumnarTaskStore(List<Task> tasks) {
+        ensureCapacity(tasks.size());
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Task get(int index) {
+        checkIndex(index);
+        String name = getName(index);
+        boolean isDone = doneFlags.get(index);
+        switch (types[index]) {
+        case DEADLINE:
+            return new Deadline(name, toDateTime(starts[index]), isDone);
+        case EVENT:
+            try {
+                return new Event(name, toDateTime(starts[index]), toDateTime(ends[index]), isDone);
+            } catch (PiggyException e) {
+                throw new AssertionError("Stored events always start before they end", e);
+            }
+        case TODO:
+        default:
+            return new ToDo(name, isDone);
+        }
+    }
+
+    @Override
+    public void add(Task task) {
+        ensureCapacity(size + 1);
+        long start = NO_TIME;
+        long end = NO_TIME;
+        byte type = TODO;
+        if (task instanceof Deadline) {
+            type = DEADLINE;
+            start = toEpochMinute(((Deadline) task).getDueDate());
+        } else if (task instanceof Event) {
+            type = EVENT;
+            start = toEpochMinute(((Event) task).getStart());
+            end = toEpochMinute(((Event) task).getEnd());
+        }
+        types[size] = type;
+        starts[size] = start;
+        ends[size] = end;
+        hashes[size] = task.hashCode();
+        if (size + 1 > hashBuckets.length / 4 * 3) {
+            hashBuckets = newBuckets(hashBuckets.length * 2);
+            rebuildHashBuckets(); // Rows up to the new one, which is chained below
+        }
+        chainRow(size);
+        doneFlags.set(size, task.isDone);
+        appendName(task.getName());
+        nameWordCount += KeywordIndex.splitWords(task.getName()).size();
+        size++;
+    }
+
+    @Override
+    public Task remove(int index) {
+        Task removed = get(index);
+        nameWordCount -= KeywordIndex.splitWords(removed.getName()).size();
+        int shifted = size - index - 1;
+        System.arraycopy(types, index + 1, types, index, shifted);
+        System.arraycopy(starts, index + 1, starts, index, shifted);
+        System.arraycopy(ends, index + 1, ends, index, shifted);
+        System.arraycopy(hashes, index + 1, hashes, index, shifted);
+        unusedNameChars += nameLengths[index];
+        System.arraycopy(nameOffsets, index + 1, nameOffsets, index, shifted);
+        System.arraycopy(nameLengths, index + 1, nameLengths, index, shifted);
+
+        BitSet laterFlags = doneFlags.get(index + 1, size);
+        doneFlags.clear(index, size);
+        laterFlags.stream().forEach(position -> doneFlags.set(index + position));
+        size--;
+        rebuildHashBuckets();
+
+        if (unusedNameChars > namePoolSize / 2) {
+            compactNames();
+        }
+        return removed;
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Task next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    @Override
+    public boolean setDone(int index, boolean isDone) {
+        checkIndex(index);
+        if (doneFlags.get(index) == isDone) {
+            return false;
+        }
+        doneFlags.set(index, isDone);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Task task) {
+        int hash = task.hashCode();
+        for (int row = hashBuckets[getBucket(hash)]; row >= 0; row = nextInBucket[row]) {
+            if (hashes[row] == hash && get(row).equals(task)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String describe(int index) {
+        checkIndex(index);
+        String name = getName(index);
+        boolean isDone = doneFlags.get(index);
+        switch (types[index]) {
+        case DEADLINE:
+            return Deadline.describe(name, isDone, toDateTime(starts[index]));
+        case EVENT:
+            return Event.describe(name, isDone, toDateTime(starts[index]), toDateTime(ends[index]));
+        case TODO:
+        default:
+            return ToDo.describe(name, isDone);
+        }
+    }
+
+    @Override
+    public List<Task> findByName(Predicate<String> nameMatcher) {
+        ArrayList<Task> matches = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (nameMatcher.test(getName(i))) {
+                matches.add(get(i));
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public List<Task> findByKeywords(List<String> keywords, boolean isMatchAll) {
+        return findByName(name -> KeywordIndex.matches(name, keywords, isMatchAll));
+    }
+
+    @Override
+    public int estimateKeywordMatches(List<String> keywords, boolean isMatchAll) {
+        return size; // Every name is checked
+    }
+
+    @Override
+    public int countKeywordMatches(String keyword) {
+        List<String> keywords = List.of(keyword);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (KeywordIndex.matches(getName(i), keywords, false)) {
+                count++; // Without a keyword index the names are checked, but no task views are created
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long countNameWords() {
+        return nameWordCount;
+    }
+
+    @Override
+    public List<Task> findByStatus(boolean isDone) {
+        ArrayList<Task> matches = new ArrayList<>();
+        int i = isDone ? doneFlags.nextSetBit(0) : doneFlags.nextClearBit(0);
+        while (i >= 0 && i < size) {
+            matches.add(get(i));
+            i = isDone ? doneFlags.nextSetBit(i + 1) : doneFlags.nextClearBit(i + 1);
+        }
+        return matches;
+    }
+
+    @Override
+    public int countByStatus(boolean isDone) {
+        int doneCount = doneFlags.cardinality();
+        return isDone ? doneCount : size - doneCount;
+    }
+
+    @Override
+    public List<Deadline> findDeadlinesBetween(LocalDateTime from, LocalDateTime to) {
+        long firstMinute = toEpochMinuteCeiling(from);
+        long lastMinute = toEpochMinute(to);
+        ArrayList<Deadline> deadlines = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (types[i] == DEADLINE && starts[i] >= firstMinute && starts[i] <= lastMinute) {
+                deadlines.add((Deadline) get(i));
+            }
+        }
+        return deadlines;
+    }
+
+    @Override
+    public List<Event> findEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        long firstMinute = toEpochMinuteCeiling(from);
+        long lastMinute = toEpochMinute(to);
+        ArrayList<Event> events = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (types[i] == EVENT && starts[i] <= lastMinute && ends[i] >= firstMinute) {
+                events.add((Event) get(i));
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public int estimateDeadlinesBetween(LocalDateTime from, LocalDateTime to) {
+        return size; // Every row is checked
+    }
+
+    @Override
+    public int estimateEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return size;
+    }
+
+    @Override
+    public List<Deadline> findOverdueDeadlines(LocalDateTime now) {
+        long nowMinute = toEpochMinuteCeiling(now);
+        ArrayList<Integer> overdue = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (types[i] == DEADLINE && !doneFlags.get(i) && starts[i] < nowMinute) {
+                overdue.add(i);
+            }
+        }
+        overdue.sort(Comparator.comparingLong(i -> starts[i])); // Stable, so ties keep list order
+        ArrayList<Deadline> deadlines = new ArrayList<>(overdue.size());
+        for (int i : overdue) {
+            deadlines.add((Deadline) get(i));
+        }
+        return deadlines;
+    }
+
+    @Override
+    public List<Task> findUpcoming(LocalDateTime now, int limit) {
+        long nowMinute = toEpochMinuteCeiling(now);
+        Comparator<Integer> bySoonest = Comparator.<Integer>comparingLong(i -> starts[i]).thenComparing(i -> i);
+        // A max-heap of the soonest rows so far, so the latest of them is the one evicted
+        PriorityQueue<Integer> soonest = new PriorityQueue<>(bySoonest.reversed());
+        for (int i = 0; i < size; i++) {
+            if (types[i] != TODO && !doneFlags.get(i) && starts[i] >= nowMinute) {
+                soonest.add(i);
+                if (soonest.size() > limit) {
+                    soonest.poll();
+                }
+            }
+        }
+        ArrayList<Integer> rows = new ArrayList<>(soonest);
+        rows.sort(bySoonest);
+        ArrayList<Task> upcoming = new ArrayList<>(rows.size());
+        for (int i : rows) {
+            upcoming.add(get(i));
+        }
+        return upcoming;
+    }
+
+    @Override
+    public String getName(int index) {
+        return new String(namePool, nameOffsets[index], nameLengths[index]);
+    }
+
+    private void appendName(String name) {
+        if (namePool.length - namePoolSize < name.length()) {
+            namePool = Arrays.copyOf(namePool, Math.max(namePool.length * 2, namePoolSize + name.length()));
+        }
+        name.getChars(0, name.length(), namePool, namePoolSize);
+        nameOffsets[size] = namePoolSize;
+        nameLengths[size] = name.length();
+        namePoolSize += name.length();
+    }
+
+    /**
+     * Copies the names of the remaining tasks into a fresh pool, dropping the names of removed tasks.
+     */
+    private void compactNames() {
+        char[] compacted = new char[Math.max(INITIAL_CAPACITY, namePoolSize - unusedNameChars)];
+        int compactedSize = 0;
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(namePool, nameOffsets[i], compacted, compactedSize, nameLengths[i]);
+            nameOffsets[i] = compactedSize;
+            compactedSize += nameLengths[i];
+        }
+        namePool = compacted;
+        namePoolSize = compactedSize;
+        unusedNameChars = 0;
+    }
+
+    private void chainRow(int row) {
+        int bucket = getBucket(hashes[row]);
+        nextInBucket[row] = hashBuckets[bucket];
+        hashBuckets[bucket] = row;
+    }
+
+    private void rebuildHashBuckets() {
+        Arrays.fill(hashBuckets, -1);
+        for (int row = 0; row < size; row++) {
+            chainRow(row);
+        }
+    }
+
+    private int getBucket(int hash) {
+        return (hash ^ (hash >>> 16)) & (hashBuckets.length - 1);
+    }
+
+    private static int[] newBuckets(int count) {
+        int[] buckets = new int[count];
+        Arrays.fill(buckets, -1);
+        return buckets;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (types.length >= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, types.length * 2);
+        types = Arrays.copyOf(types, newCapacity);
+        starts = Arrays.copyOf(starts, newCapacity);
+        ends = Arrays.copyOf(ends, newCapacity);
+        hashes = Arrays.copyOf(hashes, newCapacity);
+        nextInBucket = Arrays.copyOf(nextInBucket, newCapacity);
+        nameOffsets = Arrays.copyOf(nameOffsets, newCapacity);
+        nameLengths = Arrays.copyOf(nameLengths, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static long toEpochMinuteCeiling(LocalDateTime dateTime) {
+        long minute = toEpochMinute(dateTime);
+        boolean isOnMinute = dateTime.getSecond() == 0 && dateTime.getNano() == 0;
+        return isOnMinute ? minute : minute + 1;
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+}
@@ -2,6 +2,7 @@ package tasks;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 /**
  * Represents a task with a deadline that must be completed before a specific date/time.
@@ -60,7 +61,19 @@ public class Deadline extends Task {
      */
     @Override
     public String toString() {
-        return "[D]" + super.toString() + " (by: " + dueDate.format(OUTPUT_FORMATTER).toLowerCase() + ")";
+        return describe(name, isDone, dueDate);
+    }
+
+    /**
+     * Describes a deadline from its fields, in the same form as {@link #toString()}.
+     *
+     * @param name The description of the deadline.
+     * @param isDone Whether the deadline is done.
+     * @param dueDate The due date and time.
+     * @return A formatted string representing the deadline.
+     */
+    static String describe(String name, boolean isDone, LocalDateTime dueDate) {
+        return "[D]" + Task.describe(name, isDone) + " (by: " + dueDate.format(OUTPUT_FORMATTER).toLowerCase() + ")";
     }
 
     /**
@@ -78,4 +91,14 @@ public class Deadline extends Task {
         Deadline deadline = (Deadline) obj;
         return this.dueDate.equals(deadline.dueDate);
     }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return The hash code of this deadline.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), dueDate);
+    }
 }
@@ -3,6 +3,7 @@ package tasks;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 import exception.PiggyException;
 
@@ -95,7 +96,20 @@ public class Event extends Task {
      */
     @Override
     public String toString() {
-        return "[E]" + super.toString() + " (from: " + start.format(OUTPUT_FORMATTER).toLowerCase()
+        return describe(name, isDone, start, end);
+    }
+
+    /**
+     * Describes an event from its fields, in the same form as {@link #toString()}.
+     *
+     * @param name The description of the event.
+     * @param isDone Whether the event is done.
+     * @param start The start date and time.
+     * @param end The end date and time.
+     * @return A formatted string representing the event.
+     */
+    static String describe(String name, boolean isDone, LocalDateTime start, LocalDateTime end) {
+        return "[E]" + Task.describe(name, isDone) + " (from: " + start.format(OUTPUT_FORMATTER).toLowerCase()
                 + " to: " + end.format(OUTPUT_FORMATTER).toLowerCase() + ")";
     }
 
@@ -115,4 +129,14 @@ public class Event extends Task {
         Event event = (Event) obj;
         return this.start.equals(event.start) && this.end.equals(event.end);
     }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return The hash code of this event.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), start, end);
+    }
 }
@@ -0,0 +1,199 @@
+package tasks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Indexes events by the time span they cover, so that the events overlapping a period
+ * can be found without checking every task.
+ *
+ * <p>The tree is a treap ordered by event start (then insertion order), where every node also
+ * records the latest end in its subtree. A search skips any subtree whose latest end is before
+ * the period, and everything right of an event that starts after it, so finding the k events
+ * that overlap takes O(log n + k) expected time. Nodes also record the size of their subtree,
+ * so the events starting by a given time can be counted in O(log n) expected time.</p>
+ */
+class EventIntervalTree {
+    private final Random random = new Random();
+    private Node root;
+
+    private static class Node {
+        private final Event event;
+        private final int priority;
+        private LocalDateTime maxEnd;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        Node(Event event, int priority) {
+            this.event = event;
+            this.priority = priority;
+            this.maxEnd = event.getEnd();
+        }
+    }
+
+    /**
+     * Adds an event to the tree. The event must already have its insertion sequence assigned.
+     *
+     * @param event The event to add.
+     */
+    void insert(Event event) {
+        root = insert(root, new Node(event, random.nextInt()));
+    }
+
+    /**
+     * Removes an event from the tree, if present.
+     *
+     * @param event The event to remove.
+     */
+    void remove(Event event) {
+        root = remove(root, event);
+    }
+
+    /**
+     * Finds every event that overlaps the given period, with both ends inclusive.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return The overlapping events, in the order they were added to the list.
+     */
+    List<Event> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        ArrayList<Event> overlapping = new ArrayList<>();
+        collectOverlapping(root, from, to, overlapping);
+        overlapping.sort(Comparator.comparingLong(event -> event.sequence));
+        return overlapping;
+    }
+
+    /**
+     * Counts the events that start at or before the given time. Every event overlapping a period
+     * ending then is among them, so this bounds the work of {@link #findOverlapping}.
+     *
+     * @param to The latest start to count.
+     * @return The number of events starting by then.
+     */
+    int countStartingBy(LocalDateTime to) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.event.getStart().isAfter(to)) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    private Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.event, node.event) < 0) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node remove(Node node, Event event) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(event, node.event);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = remove(node.left, event);
+        } else {
+            node.right = remove(node.right, event);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Joins two treaps where every event in {@code left} orders before every event in {@code right}.
+     */
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to, List<Event> overlapping) {
+        if (node == null || node.maxEnd.isBefore(from)) {
+            return; // Nothing in this subtree ends in time
+        }
+        collectOverlapping(node.left, from, to, overlapping);
+        if (node.event.getStart().isAfter(to)) {
+            return; // This event and everything to its right start too late
+        }
+        if (!node.event.getEnd().isBefore(from)) {
+            overlapping.add(node.event);
+        }
+        collectOverlapping(node.right, from, to, overlapping);
+    }
+
+    private Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static void update(Node node) {
+        LocalDateTime maxEnd = node.event.getEnd();
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int compare(Event first, Event second) {
+        int comparison = first.getStart().compareTo(second.getStart());
+        return comparison != 0 ? comparison : Long.compare(first.sequence, second.sequence);
+    }
+}
@@ -0,0 +1,282 @@
+package tasks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Holds tasks as objects in an order-statistic list, with a hash index for duplicate checks,
+ * a keyword index for searches, and time indexes over deadlines and events for date lookups.
+ * Getting, adding or removing a task at any position takes O(log n) time.
+ * Undone deadlines and events are also kept in time order, for finding what is overdue or coming up next,
+ * and every task is kept by completion status in list order, for queries on status.
+ */
+class IndexedTaskStore implements TaskStore {
+    private final OrderStatisticList<Task> tasks = new OrderStatisticList<>();
+    private final HashMap<Task, Integer> taskCounts = new HashMap<>(); // Index of tasks by identity, for duplicates
+    private final TreeMap<LocalDateTime, ArrayList<Deadline>> deadlinesByDueDate = new TreeMap<>();
+    private final EventIntervalTree events = new EventIntervalTree();
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+    private final HashMap<Long, Task> tasksBySequence = new HashMap<>();
+    private final TreeMap<TimeKey, Deadline> undoneDeadlines = new TreeMap<>();
+    private final TreeMap<TimeKey, Event> undoneEvents = new TreeMap<>();
+    private final TreeMap<Long, Task> doneTasks = new TreeMap<>(); // By sequence, which is list order
+    private final TreeMap<Long, Task> undoneTasks = new TreeMap<>();
+    private long nextSequence;
+    private long nameWordCount;
+
+    /**
+     * Orders undone tasks by their time, then by the order they were added, which is their list order.
+     */
+    private static class TimeKey implements Comparable<TimeKey> {
+        private final LocalDateTime time;
+        private final long sequence;
+
+        TimeKey(LocalDateTime time, long sequence) {
+            this.time = time;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(TimeKey other) {
+            int comparison = time.compareTo(other.time);
+            return comparison != 0 ? comparison : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Constructs an IndexedTaskStore holding the given tasks.
+     *
+     * @param tasks The tasks to hold, in list order.
+     */
+    IndexedTaskStore(List<Task> tasks) {
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    @Override
+    public Task get(int index) {
+        return tasks.get(index);
+    }
+
+    @Override
+    public void add(Task task) {
+        tasks.add(task);
+        indexTask(task);
+    }
+
+    @Override
+    public Task remove(int index) {
+        Task removed = tasks.remove(index);
+        unindexTask(removed);
+        return removed;
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return tasks.iterator();
+    }
+
+    @Override
+    public boolean setDone(int index, boolean isDone) {
+        Task task = tasks.get(index);
+        if (task.isDone == isDone) {
+            return false;
+        }
+        getTasksWithStatus(task.isDone).remove(task.sequence);
+        if (isDone) {
+            task.mark();
+            removeUndone(task);
+        } else {
+            task.unmark();
+            addUndone(task);
+        }
+        getTasksWithStatus(isDone).put(task.sequence, task);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Task task) {
+        return taskCounts.containsKey(task);
+    }
+
+    @Override
+    public String describe(int index) {
+        return tasks.get(index).toString();
+    }
+
+    @Override
+    public String getName(int index) {
+        return tasks.get(index).getName();
+    }
+
+    @Override
+    public List<Task> findByName(Predicate<String> nameMatcher) {
+        ArrayList<Task> matches = new ArrayList<>();
+        for (Task task : tasks) {
+            if (nameMatcher.test(task.getName())) {
+                matches.add(task);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public List<Task> findByKeywords(List<String> keywords, boolean isMatchAll) {
+        ArrayList<Task> matches = new ArrayList<>();
+        for (long sequence : keywordIndex.find(keywords, isMatchAll)) {
+            matches.add(tasksBySequence.get(sequence));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateKeywordMatches(List<String> keywords, boolean isMatchAll) {
+        return keywordIndex.estimateMatches(keywords, isMatchAll);
+    }
+
+    @Override
+    public int countKeywordMatches(String keyword) {
+        return keywordIndex.countMatches(keyword);
+    }
+
+    @Override
+    public long countNameWords() {
+        return nameWordCount;
+    }
+
+    @Override
+    public List<Task> findByStatus(boolean isDone) {
+        return new ArrayList<>(getTasksWithStatus(isDone).values());
+    }
+
+    @Override
+    public int countByStatus(boolean isDone) {
+        return getTasksWithStatus(isDone).size();
+    }
+
+    @Override
+    public List<Deadline> findDeadlinesBetween(LocalDateTime from, LocalDateTime to) {
+        ArrayList<Deadline> deadlines = new ArrayList<>();
+        for (ArrayList<Deadline> sameDueDate : deadlinesByDueDate.subMap(from, true, to, true).values()) {
+            deadlines.addAll(sameDueDate);
+        }
+        deadlines.sort(Comparator.comparingLong(deadline -> deadline.sequence));
+        return deadlines;
+    }
+
+    @Override
+    public List<Event> findEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return events.findOverlapping(from, to);
+    }
+
+    @Override
+    public int estimateDeadlinesBetween(LocalDateTime from, LocalDateTime to) {
+        int count = 0;
+        for (ArrayList<Deadline> sameDueDate : deadlinesByDueDate.subMap(from, true, to, true).values()) {
+            count += sameDueDate.size();
+        }
+        return count;
+    }
+
+    @Override
+    public int estimateEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return events.countStartingBy(to);
+    }
+
+    @Override
+    public List<Deadline> findOverdueDeadlines(LocalDateTime now) {
+        return new ArrayList<>(undoneDeadlines.headMap(new TimeKey(now, Long.MIN_VALUE)).values());
+    }
+
+    @Override
+    public List<Task> findUpcoming(LocalDateTime now, int limit) {
+        // Merge the two time orders from now on, stopping once enough tasks are found
+        TimeKey start = new TimeKey(now, Long.MIN_VALUE);
+        Iterator<Map.Entry<TimeKey, Deadline>> deadlines = undoneDeadlines.tailMap(start).entrySet().iterator();
+        Iterator<Map.Entry<TimeKey, Event>> events = undoneEvents.tailMap(start).entrySet().iterator();
+        Map.Entry<TimeKey, Deadline> nextDeadline = deadlines.hasNext() ? deadlines.next() : null;
+        Map.Entry<TimeKey, Event> nextEvent = events.hasNext() ? events.next() : null;
+        ArrayList<Task> upcoming = new ArrayList<>();
+        while (upcoming.size() < limit && (nextDeadline != null || nextEvent != null)) {
+            if (nextEvent == null || nextDeadline != null && nextDeadline.getKey().compareTo(nextEvent.getKey()) < 0) {
+                upcoming.add(nextDeadline.getValue());
+                nextDeadline = deadlines.hasNext() ? deadlines.next() : null;
+            } else {
+                upcoming.add(nextEvent.getValue());
+                nextEvent = events.hasNext() ? events.next() : null;
+            }
+        }
+        return upcoming;
+    }
+
+    private TreeMap<Long, Task> getTasksWithStatus(boolean isDone) {
+        return isDone ? doneTasks : undoneTasks;
+    }
+
+    private void addUndone(Task task) {
+        if (task instanceof Deadline) {
+            undoneDeadlines.put(new TimeKey(((Deadline) task).getDueDate(), task.sequence), (Deadline) task);
+        } else if (task instanceof Event) {
+            undoneEvents.put(new TimeKey(((Event) task).getStart(), task.sequence), (Event) task);
+        }
+    }
+
+    private void removeUndone(Task task) {
+        if (task instanceof Deadline) {
+            undoneDeadlines.remove(new TimeKey(((Deadline) task).getDueDate(), task.sequence));
+        } else if (task instanceof Event) {
+            undoneEvents.remove(new TimeKey(((Event) task).getStart(), task.sequence));
+        }
+    }
+
+    private void indexTask(Task task) {
+        task.sequence = nextSequence++;
+        tasksBySequence.put(task.sequence, task);
+        taskCounts.merge(task, 1, Integer::sum);
+        keywordIndex.add(task);
+        nameWordCount += KeywordIndex.splitWords(task.getName()).size();
+        if (task instanceof Deadline) {
+            Deadline deadline = (Deadline) task;
+            deadlinesByDueDate.computeIfAbsent(deadline.getDueDate(), dueDate -> new ArrayList<>()).add(deadline);
+        } else if (task instanceof Event) {
+            events.insert((Event) task);
+        }
+        getTasksWithStatus(task.isDone).put(task.sequence, task);
+        if (!task.isDone) {
+            addUndone(task);
+        }
+    }
+
+    private void unindexTask(Task task) {
+        // A saved file may hold duplicates, so only drop the entry once the last copy is gone
+        taskCounts.computeIfPresent(task, (key, count) -> count == 1 ? null : count - 1);
+        tasksBySequence.remove(task.sequence);
+        keywordIndex.remove(task);
+        nameWordCount -= KeywordIndex.splitWords(task.getName()).size();
+        if (task instanceof Deadline) {
+            LocalDateTime dueDate = ((Deadline) task).getDueDate();
+            ArrayList<Deadline> sameDueDate = deadlinesByDueDate.get(dueDate);
+            sameDueDate.removeIf(deadline -> deadline == task);
+            if (sameDueDate.isEmpty()) {
+                deadlinesByDueDate.remove(dueDate);
+            }
+        } else if (task instanceof Event) {
+            events.remove((Event) task);
+        }
+        getTasksWithStatus(task.isDone).remove(task.sequence);
+        removeUndone(task);
+    }
+}
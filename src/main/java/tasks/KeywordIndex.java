@@ -0,0 +1,303 @@
+package tasks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * An inverted index from the lower-cased words of task names to the tasks that contain them.
+ * Each posting list holds task sequence numbers in ascending order, which is list order.
+ *
+ * <p>Keywords never contain spaces, so a keyword occurs in a lower-cased name exactly when it occurs
+ * in one of the name's space-separated words. Looking a keyword up in the dictionary of distinct words
+ * and merging their posting lists therefore gives the same matches as checking every name.</p>
+ *
+ * <p>To find those words without checking the whole dictionary, every word is also indexed by its trigrams
+ * (runs of three characters). A word containing the keyword contains all of the keyword's trigrams,
+ * so only the words sharing every trigram are candidates, and only they are checked with contains.
+ * Keywords shorter than three characters have no trigrams and are checked against every word.</p>
+ *
+ * <p>A keyword starting with {@code ~} is fuzzy: it matches the words within a small edit distance of it
+ * instead of the words containing it, so typos still find their tasks. Such words are found through
+ * a BK-tree of the dictionary. Words that leave the dictionary stay in the tree and are skipped,
+ * until they outnumber the live words and the tree is rebuilt.</p>
+ */
+class KeywordIndex {
+    private static final String FUZZY_PREFIX = "~";
+    private static final int GRAM_LENGTH = 3;
+    private static final int SHORT_WORD_LENGTH = 4; // Fuzzy keywords up to this long allow one typo, longer ones two
+
+    private final HashMap<String, TreeSet<Long>> postings = new HashMap<>();
+    private final HashMap<String, HashSet<String>> termsByTrigram = new HashMap<>();
+    private BkTree termTree = new BkTree();
+    private int deadTerms; // Words in the tree that no task contains any more
+
+    /**
+     * Adds a task to the posting list of every word in its name.
+     *
+     * @param task The task to add. Its sequence number must already be assigned.
+     */
+    void add(Task task) {
+        for (String term : tokenize(task.getName())) {
+            TreeSet<Long> posting = postings.get(term);
+            if (posting == null) {
+                posting = new TreeSet<>();
+                postings.put(term, posting);
+                for (String trigram : trigrams(term)) {
+                    termsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(term);
+                }
+                if (!termTree.add(term)) {
+                    deadTerms--;
+                }
+            }
+            posting.add(task.sequence);
+        }
+    }
+
+    /**
+     * Removes a task from the posting list of every word in its name.
+     *
+     * @param task The task to remove.
+     */
+    void remove(Task task) {
+        for (String term : tokenize(task.getName())) {
+            TreeSet<Long> posting = postings.get(term);
+            posting.remove(task.sequence);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+                for (String trigram : trigrams(term)) {
+                    HashSet<String> terms = termsByTrigram.get(trigram);
+                    terms.remove(term);
+                    if (terms.isEmpty()) {
+                        termsByTrigram.remove(trigram);
+                    }
+                }
+                deadTerms++;
+            }
+        }
+        if (deadTerms > postings.size()) {
+            rebuildTermTree();
+        }
+    }
+
+    /**
+     * Finds the tasks whose names contain any, or all, of the given keywords (case-insensitive).
+     * A fuzzy keyword is contained in a name when one of the name's words is within its allowed typos.
+     *
+     * @param keywords The keywords to look for. None may contain a space.
+     * @param isMatchAll Whether a task must contain every keyword rather than any of them.
+     * @return The sequence numbers of the matching tasks, in ascending order.
+     */
+    TreeSet<Long> find(List<String> keywords, boolean isMatchAll) {
+        TreeSet<Long> matches = null;
+        for (String keyword : keywords) {
+            TreeSet<Long> keywordMatches = find(keyword);
+            if (matches == null) {
+                matches = keywordMatches;
+            } else if (isMatchAll) {
+                matches.retainAll(keywordMatches);
+            } else {
+                matches.addAll(keywordMatches);
+            }
+        }
+        return matches == null ? new TreeSet<>() : matches;
+    }
+
+    /**
+     * Checks whether a task name contains any, or all, of the given keywords (case-insensitive),
+     * the same way {@link #find(List, boolean)} does, for callers that scan names instead.
+     *
+     * @param name The task name to check.
+     * @param keywords The keywords to look for.
+     * @param isMatchAll Whether the name must contain every keyword rather than any of them.
+     * @return true if the name matches; false otherwise.
+     */
+    static boolean matches(String name, List<String> keywords, boolean isMatchAll) {
+        String nameLower = name.toLowerCase();
+        if (isMatchAll) {
+            return keywords.stream().allMatch(keyword -> matches(nameLower, keyword));
+        }
+        return keywords.stream().anyMatch(keyword -> matches(nameLower, keyword));
+    }
+
+    private static boolean matches(String nameLower, String keyword) {
+        if (!isFuzzy(keyword)) {
+            return nameLower.contains(keyword.toLowerCase());
+        }
+        return tokenize(nameLower).stream().anyMatch(term -> matchesWord(term, keyword));
+    }
+
+    /**
+     * Counts how many of a name's words a keyword matches, for weighing how strongly the name matches it.
+     *
+     * @param words The lower-cased words of the name, as given by {@link #splitWords(String)}.
+     * @param keyword The keyword to look for.
+     * @return The number of words the keyword matches, counting repeated words every time.
+     */
+    static int countMatchingWords(List<String> words, String keyword) {
+        int count = 0;
+        for (String word : words) {
+            if (matchesWord(word, keyword)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Splits a name into its lower-cased space-separated words, keeping repeated words.
+     *
+     * @param name The name to split.
+     * @return The words of the name, in order.
+     */
+    static List<String> splitWords(String name) {
+        ArrayList<String> words = new ArrayList<>();
+        for (String word : name.toLowerCase().split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static boolean matchesWord(String word, String keyword) {
+        if (!isFuzzy(keyword)) {
+            return word.contains(keyword.toLowerCase());
+        }
+        String fuzzyWord = keyword.substring(FUZZY_PREFIX.length()).toLowerCase();
+        return BkTree.editDistance(word, fuzzyWord) <= getMaxTypos(fuzzyWord);
+    }
+
+    /**
+     * Estimates how many tasks {@link #find(List, boolean)} reads for the given keywords, from the sizes
+     * of their posting lists, without merging them.
+     *
+     * @param keywords The keywords to look for. None may contain a space.
+     * @param isMatchAll Whether a task must contain every keyword rather than any of them.
+     * @return An upper bound on the number of matching tasks.
+     */
+    int estimateMatches(List<String> keywords, boolean isMatchAll) {
+        int estimate = isMatchAll && !keywords.isEmpty() ? Integer.MAX_VALUE : 0;
+        for (String keyword : keywords) {
+            int keywordEstimate = 0;
+            for (TreeSet<Long> posting : findPostings(keyword)) {
+                keywordEstimate += posting.size();
+            }
+            estimate = isMatchAll ? Math.min(estimate, keywordEstimate) : estimate + keywordEstimate;
+        }
+        return estimate;
+    }
+
+    /**
+     * Counts the tasks whose names contain a keyword, as {@link #find(List, boolean)} would find them.
+     * A keyword matching a single word is counted from the size of its posting list, without merging.
+     *
+     * @param keyword The keyword to look for, which may not contain a space.
+     * @return The number of matching tasks.
+     */
+    int countMatches(String keyword) {
+        List<TreeSet<Long>> matchingPostings = findPostings(keyword);
+        return matchingPostings.size() == 1 ? matchingPostings.get(0).size() : merge(matchingPostings).size();
+    }
+
+    private TreeSet<Long> find(String keyword) {
+        return merge(findPostings(keyword));
+    }
+
+    private static TreeSet<Long> merge(List<TreeSet<Long>> postingLists) {
+        TreeSet<Long> matches = new TreeSet<>();
+        for (TreeSet<Long> posting : postingLists) {
+            matches.addAll(posting);
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the posting lists of every word a keyword matches.
+     */
+    private List<TreeSet<Long>> findPostings(String keyword) {
+        ArrayList<TreeSet<Long>> matchingPostings = new ArrayList<>();
+        if (isFuzzy(keyword)) {
+            String word = keyword.substring(FUZZY_PREFIX.length()).toLowerCase();
+            for (String term : termTree.findWithin(word, getMaxTypos(word))) {
+                TreeSet<Long> posting = postings.get(term);
+                if (posting != null) {
+                    matchingPostings.add(posting);
+                }
+            }
+            return matchingPostings;
+        }
+        String keywordLower = keyword.toLowerCase();
+        for (String term : findCandidateTerms(keywordLower)) {
+            if (term.contains(keywordLower)) {
+                matchingPostings.add(postings.get(term));
+            }
+        }
+        return matchingPostings;
+    }
+
+    private void rebuildTermTree() {
+        termTree = new BkTree();
+        for (String term : postings.keySet()) {
+            termTree.add(term);
+        }
+        deadTerms = 0;
+    }
+
+    /**
+     * Checks whether a keyword asks for words close to it rather than words containing it.
+     */
+    private static boolean isFuzzy(String keyword) {
+        return keyword.length() > FUZZY_PREFIX.length() && keyword.startsWith(FUZZY_PREFIX);
+    }
+
+    private static int getMaxTypos(String word) {
+        return word.length() <= SHORT_WORD_LENGTH ? 1 : 2;
+    }
+
+    /**
+     * Finds the words that share every trigram of a lower-cased keyword, starting from the rarest trigram.
+     */
+    private Collection<String> findCandidateTerms(String keywordLower) {
+        HashSet<String> keywordTrigrams = trigrams(keywordLower);
+        if (keywordTrigrams.isEmpty()) {
+            return postings.keySet();
+        }
+        ArrayList<HashSet<String>> termSets = new ArrayList<>();
+        for (String trigram : keywordTrigrams) {
+            HashSet<String> terms = termsByTrigram.get(trigram);
+            if (terms == null) {
+                return List.of();
+            }
+            termSets.add(terms);
+        }
+        termSets.sort(Comparator.comparingInt(HashSet::size));
+        HashSet<String> candidates = new HashSet<>(termSets.get(0));
+        for (int i = 1; i < termSets.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(termSets.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Gets the distinct trigrams of a word, or none if it is shorter than three characters.
+     */
+    private static HashSet<String> trigrams(String term) {
+        HashSet<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+            trigrams.add(term.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Splits a lower-cased name into its distinct space-separated words.
+     */
+    private static HashSet<String> tokenize(String name) {
+        return new HashSet<>(splitWords(name));
+    }
+}
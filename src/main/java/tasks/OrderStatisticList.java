@@ -0,0 +1,202 @@
+package tasks;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * A list backed by an implicit treap, where every node records the size of its subtree.
+ * Positions are not stored but counted from subtree sizes, so getting, inserting or removing
+ * at any position takes O(log n) expected time instead of shifting every later element.
+ *
+ * @param <E> The type of elements in the list.
+ */
+class OrderStatisticList<E> extends AbstractList<E> {
+    private final Random random = new Random();
+    private Node<E> root;
+
+    private static class Node<E> {
+        private final int priority;
+        private E value;
+        private int size = 1;
+        private Node<E> left;
+        private Node<E> right;
+
+        Node(E value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * The two halves of a treap split at a position.
+     */
+    private static class Split<E> {
+        private Node<E> left;
+        private Node<E> right;
+    }
+
+    /**
+     * Iterates in order with an explicit stack, visiting each node once rather than searching for every position.
+     */
+    private class InOrderIterator implements Iterator<E> {
+        private final ArrayDeque<Node<E>> path = new ArrayDeque<>();
+        private final int expectedModCount = modCount;
+
+        InOrderIterator() {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public E get(int index) {
+        return nodeAt(index).value;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Node<E> node = nodeAt(index);
+        E previous = node.value;
+        node.value = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        Split<E> halves = split(root, index);
+        root = merge(merge(halves.left, new Node<>(element, random.nextInt())), halves.right);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        Split<E> halves = split(root, index);
+        Split<E> removed = split(halves.right, 1);
+        root = merge(halves.left, removed.right);
+        modCount++;
+        return removed.left.value;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator();
+    }
+
+    private Node<E> nodeAt(int index) {
+        checkIndex(index);
+        Node<E> node = root;
+        int remaining = index;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (remaining < leftSize) {
+                node = node.left;
+            } else if (remaining == leftSize) {
+                return node;
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Splits a treap into its first {@code count} elements and the rest.
+     */
+    private Split<E> split(Node<E> node, int count) {
+        Split<E> halves = new Split<>();
+        if (node == null) {
+            return halves;
+        }
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Split<E> leftHalves = split(node.left, count);
+            node.left = leftHalves.right;
+            update(node);
+            halves.left = leftHalves.left;
+            halves.right = node;
+        } else {
+            Split<E> rightHalves = split(node.right, count - leftSize - 1);
+            node.right = rightHalves.left;
+            update(node);
+            halves.left = node;
+            halves.right = rightHalves.right;
+        }
+        return halves;
+    }
+
+    /**
+     * Joins two treaps, keeping every element of {@code left} before every element of {@code right}.
+     */
+    private Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+    }
+
+    private static void update(Node<?> node) {
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+}
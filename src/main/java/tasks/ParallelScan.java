@@ -0,0 +1,55 @@
+package tasks;
+
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs scans over every position of a task list, in parallel once the list is large enough.
+ * Large scans split the positions into chunks on the common ForkJoin pool and combine the chunks in order,
+ * so results come out exactly as a sequential scan would give them.
+ * Below the threshold, forking would cost more than it saves, so the scan stays sequential.
+ */
+public class ParallelScan {
+    /** The smallest number of positions that is scanned in parallel, unless configured otherwise. */
+    public static final int DEFAULT_THRESHOLD = 10_000;
+
+    /**
+     * Finds the positions in {@code [0, size)} that pass a test.
+     * The test may be run from several threads at once, so it must only read shared state.
+     *
+     * @param size The number of positions to scan.
+     * @param test The test applied to each position.
+     * @param threshold The smallest size that is scanned in parallel.
+     * @return The positions that pass, in increasing order.
+     */
+    public static int[] filter(int size, IntPredicate test, int threshold) {
+        IntStream positions = IntStream.range(0, size);
+        return (size >= threshold ? positions.parallel() : positions).filter(test).toArray();
+    }
+
+    /**
+     * Formats the positions in {@code [from, to)} one row each, and joins the rows with newlines in order.
+     * The formatter may be run from several threads at once, so it must only read shared state.
+     *
+     * @param from The first position to format.
+     * @param to The position after the last one to format.
+     * @param formatter Formats the row of a position.
+     * @param threshold The smallest number of rows that is formatted in parallel.
+     * @return The rows, one per line.
+     */
+    public static String join(int from, int to, IntFunction<String> formatter, int threshold) {
+        if (to - from < threshold) {
+            StringBuilder rows = new StringBuilder();
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    rows.append('\n');
+                }
+                rows.append(formatter.apply(i));
+            }
+            return rows.toString();
+        }
+        return IntStream.range(from, to).parallel().mapToObj(formatter).collect(Collectors.joining("\n"));
+    }
+}
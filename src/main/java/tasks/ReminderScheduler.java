@@ -0,0 +1,273 @@
+package tasks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Reminds the user shortly before undone deadlines are due and events start.
+ *
+ * <p>All pending reminders sit in one min-heap ordered by when they are due, drained by a single
+ * daemon thread that sleeps until the earliest one, so hundreds of thousands of reminders cost one
+ * heap entry each rather than one scheduled future each. The scheduler follows the task list:
+ * adding or unmarking a task schedules its reminder in O(log n) time, and deleting or marking one
+ * cancels it in O(1) time by flagging the heap entry, which the thread then skips. Flagged entries
+ * are swept out once they make up half of the heap.</p>
+ */
+public class ReminderScheduler implements TaskListListener {
+    private final Duration leadTime;
+    private final Clock clock;
+    private final PriorityQueue<Reminder> reminders =
+            new PriorityQueue<>(Comparator.comparing((Reminder reminder) -> reminder.remindAt));
+    private final HashMap<Task, ArrayDeque<Reminder>> remindersByTask = new HashMap<>(); // Equal tasks share a queue
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private int cancelledCount;
+    private Thread thread;
+    private boolean isClosed;
+
+    /**
+     * A pending reminder about one task.
+     */
+    private static class Reminder {
+        private final Task task;
+        private final LocalDateTime remindAt;
+        private boolean isCancelled;
+
+        Reminder(Task task, LocalDateTime remindAt) {
+            this.task = task;
+            this.remindAt = remindAt;
+        }
+    }
+
+    /**
+     * Constructs a ReminderScheduler for the undone tasks of a list, and follows the list's changes.
+     * No reminder is delivered until {@link #start()} is called.
+     *
+     * @param taskList The task list to remind about.
+     * @param leadTime How long before a deadline is due, or an event starts, to remind the user.
+     * @param clock The clock giving the current time.
+     */
+    public ReminderScheduler(TaskList taskList, Duration leadTime, Clock clock) {
+        assert !leadTime.isNegative() : "Reminder lead time should not be negative";
+        this.leadTime = leadTime;
+        this.clock = clock;
+        for (Task task : taskList.getAllTasks()) {
+            schedule(task);
+        }
+        taskList.addListener(this);
+    }
+
+    /**
+     * Registers a listener that receives every reminder message.
+     * Listeners are called from the scheduler thread.
+     *
+     * @param listener The listener to register.
+     */
+    public void addListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Starts the thread that delivers reminders as they come due. Does nothing if already started.
+     */
+    public void start() {
+        lock.lock();
+        try {
+            if (thread != null || isClosed) {
+                return;
+            }
+            thread = new Thread(this::deliverReminders, "piggyplanner-reminders");
+            thread.setDaemon(true);
+            thread.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops delivering reminders. Safe to call more than once.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            isClosed = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of reminders still waiting to be delivered.
+     *
+     * @return The number of pending reminders.
+     */
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return reminders.size() - cancelledCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        cancel(task);
+    }
+
+    @Override
+    public void taskStatusChanged(int index, Task task) {
+        if (task.isDone()) {
+            cancel(task);
+        } else {
+            schedule(task);
+        }
+    }
+
+    /**
+     * Takes every reminder that has come due, and describes each one.
+     * The scheduler thread calls this whenever it wakes up.
+     *
+     * @return The messages of the reminders that came due, earliest first.
+     */
+    List<String> takeDueReminders() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<String> messages = new ArrayList<>();
+        lock.lock();
+        try {
+            while (!reminders.isEmpty() && !reminders.peek().remindAt.isAfter(now)) {
+                Reminder reminder = reminders.poll();
+                if (reminder.isCancelled) {
+                    cancelledCount--;
+                    continue;
+                }
+                removeFromTask(reminder);
+                messages.add(describe(reminder.task, now));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return messages;
+    }
+
+    private void deliverReminders() {
+        while (true) {
+            lock.lock();
+            try {
+                while (!isClosed && !hasDueReminder()) {
+                    if (reminders.isEmpty()) {
+                        changed.await();
+                    } else {
+                        Duration wait = Duration.between(LocalDateTime.now(clock), reminders.peek().remindAt);
+                        changed.awaitNanos(Math.max(TimeUnit.MILLISECONDS.toNanos(1), wait.toNanos()));
+                    }
+                }
+                if (isClosed) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            for (String message : takeDueReminders()) {
+                for (Consumer<String> listener : listeners) {
+                    listener.accept(message);
+                }
+            }
+        }
+    }
+
+    private boolean hasDueReminder() {
+        return !reminders.isEmpty() && !reminders.peek().remindAt.isAfter(LocalDateTime.now(clock));
+    }
+
+    /**
+     * Schedules the reminder of an undone deadline or event that is still ahead. One that is already
+     * within the lead time is reminded about straight away.
+     */
+    private void schedule(Task task) {
+        LocalDateTime dueAt = getTime(task);
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (dueAt == null || task.isDone() || dueAt.isBefore(now)) {
+            return;
+        }
+        LocalDateTime remindAt = dueAt.minus(leadTime);
+        Reminder reminder = new Reminder(task, remindAt.isBefore(now) ? now : remindAt);
+        lock.lock();
+        try {
+            reminders.add(reminder);
+            remindersByTask.computeIfAbsent(task, key -> new ArrayDeque<>()).add(reminder);
+            if (reminders.peek() == reminder) {
+                changed.signalAll(); // The thread may be sleeping until a later reminder
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cancel(Task task) {
+        lock.lock();
+        try {
+            ArrayDeque<Reminder> pending = remindersByTask.get(task);
+            if (pending == null) {
+                return;
+            }
+            pending.poll().isCancelled = true;
+            cancelledCount++;
+            if (pending.isEmpty()) {
+                remindersByTask.remove(task);
+            }
+            if (cancelledCount > reminders.size() / 2) {
+                reminders.removeIf(reminder -> reminder.isCancelled);
+                cancelledCount = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeFromTask(Reminder reminder) {
+        ArrayDeque<Reminder> pending = remindersByTask.get(reminder.task);
+        pending.remove(reminder);
+        if (pending.isEmpty()) {
+            remindersByTask.remove(reminder.task);
+        }
+    }
+
+    private static LocalDateTime getTime(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getDueDate();
+        }
+        if (task instanceof Event) {
+            return ((Event) task).getStart();
+        }
+        return null;
+    }
+
+    private static String describe(Task task, LocalDateTime now) {
+        long minutes = (long) Math.ceil(Duration.between(now, getTime(task)).getSeconds() / 60.0);
+        String when = minutes <= 0 ? "now" : "in " + minutes + (minutes == 1 ? " minute" : " minutes");
+        String what = task instanceof Deadline ? "This is due " : "This starts ";
+        return "Reminder! " + what + when + ":\n " + task;
+    }
+}
@@ -0,0 +1,109 @@
+package tasks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Ranks search matches by relevance and keeps only the best few.
+ * Each keyword is weighted BM25-style: keywords found in few tasks count for more, a keyword counts for more
+ * the more words of a name it matches (with diminishing returns), and long names are scaled down.
+ * Undone tasks and deadlines due within a week are then boosted.
+ */
+public class SearchRanker {
+    private static final double TERM_SATURATION = 1.2; // BM25 k1
+    private static final double LENGTH_NORMALIZATION = 0.75; // BM25 b
+    private static final double UNDONE_BOOST = 1.5;
+    private static final double NEAR_DEADLINE_BOOST = 1.5;
+    private static final Duration NEAR_DEADLINE_WINDOW = Duration.ofDays(7);
+
+    /**
+     * A match paired with its relevance score and its position among the matches, which breaks ties.
+     */
+    private static class ScoredTask {
+        private final Task task;
+        private final double score;
+        private final int position;
+
+        ScoredTask(Task task, double score, int position) {
+            this.task = task;
+            this.score = score;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Gets the most relevant of the given matches, most relevant first.
+     * Only {@code limit} matches are ever held, so this takes O(N log k) time for N matches,
+     * once the keyword counts and average name length of the whole list are read from the list.
+     * Equally relevant matches keep their list order.
+     *
+     * @param tasks The task list the matches were found in.
+     * @param matches The tasks matching the keywords, in list order.
+     * @param keywords The keywords that were searched for.
+     * @param limit The largest number of matches to return.
+     * @param now The current time, for judging how near deadlines are.
+     * @return Up to {@code limit} matches, most relevant first.
+     */
+    public static List<Task> findTopMatches(TaskList tasks, List<Task> matches, List<String> keywords, int limit,
+            LocalDateTime now) {
+        assert limit > 0 : "Limit should be positive in SearchRanker.findTopMatches()";
+
+        double[] keywordWeights = new double[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            int documentFrequency = tasks.countKeywordMatches(keywords.get(i));
+            keywordWeights[i] = getInverseDocumentFrequency(tasks.size(), documentFrequency);
+        }
+        double averageLength = tasks.getAverageNameLength(); // Over every task, as BM25 expects
+
+        // A min-heap on relevance, so the weakest of the best matches so far is the one evicted
+        Comparator<ScoredTask> byRelevance = Comparator.<ScoredTask>comparingDouble(scored -> scored.score)
+                .thenComparing(scored -> scored.position, Comparator.reverseOrder());
+        PriorityQueue<ScoredTask> best = new PriorityQueue<>(limit, byRelevance);
+        for (int position = 0; position < matches.size(); position++) {
+            Task task = matches.get(position);
+            best.offer(new ScoredTask(task, score(task, keywords, keywordWeights, averageLength, now), position));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        ArrayList<Task> topMatches = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            topMatches.add(best.poll().task);
+        }
+        Collections.reverse(topMatches);
+        return topMatches;
+    }
+
+    private static double score(Task task, List<String> keywords, double[] keywordWeights, double averageLength,
+            LocalDateTime now) {
+        List<String> words = KeywordIndex.splitWords(task.getName());
+        double lengthRatio = averageLength == 0 ? 1 : words.size() / averageLength;
+        double lengthPenalty = TERM_SATURATION * (1 - LENGTH_NORMALIZATION + LENGTH_NORMALIZATION * lengthRatio);
+        double score = 0;
+        for (int i = 0; i < keywords.size(); i++) {
+            int termFrequency = KeywordIndex.countMatchingWords(words, keywords.get(i));
+            score += keywordWeights[i] * termFrequency * (TERM_SATURATION + 1) / (termFrequency + lengthPenalty);
+        }
+        if (!task.isDone) {
+            score *= UNDONE_BOOST;
+            if (task instanceof Deadline && isNear(((Deadline) task).getDueDate(), now)) {
+                score *= NEAR_DEADLINE_BOOST;
+            }
+        }
+        return score;
+    }
+
+    private static boolean isNear(LocalDateTime dueDate, LocalDateTime now) {
+        return !dueDate.isBefore(now) && !dueDate.isAfter(now.plus(NEAR_DEADLINE_WINDOW));
+    }
+
+    private static double getInverseDocumentFrequency(int taskCount, int documentFrequency) {
+        return Math.log(1 + (taskCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+}
@@ -1,11 +1,15 @@
 package tasks;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Represents a generic task that can be tracked in the task list.
  */
 public class Task {
     protected final String name;
     protected boolean isDone;
+    long sequence; // Insertion order within its TaskList, used to keep index results in list order
 
     /**
      * Constructs a new Task.
@@ -29,6 +33,15 @@ public class Task {
         return " ";
     }
 
+    /**
+     * Checks whether the task is completed.
+     *
+     * @return true if the task is done; false otherwise.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
     /**
      * Marks the task as completed.
      */
@@ -52,6 +65,17 @@ public class Task {
         return this.name;
     }
 
+    /**
+     * Checks whether the task name matches a keyword the same way {@code find} does:
+     * it contains the keyword (case-insensitive), or for a {@code ~} keyword, has a word within its allowed typos.
+     *
+     * @param keyword The keyword to check, which may not contain a space.
+     * @return true if the name matches the keyword; false otherwise.
+     */
+    public boolean matchesKeyword(String keyword) {
+        return KeywordIndex.matches(name, List.of(keyword), false);
+    }
+
     /**
      * Returns a string representation of the task.
      *
@@ -59,7 +83,18 @@ public class Task {
      */
     @Override
     public String toString() {
-        return "[" + this.status() + "] " + this.name;
+        return describe(this.name, this.isDone);
+    }
+
+    /**
+     * Describes a task from its fields, in the same form as {@link #toString()}.
+     *
+     * @param name The description of the task.
+     * @param isDone Whether the task is done.
+     * @return A formatted string representing the task.
+     */
+    static String describe(String name, boolean isDone) {
+        return "[" + (isDone ? "X" : " ") + "] " + name;
     }
 
     /**
@@ -81,5 +116,16 @@ public class Task {
         Task task = (Task) obj;
         return this.name.equals(task.name);
     }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     * The completion status is left out, so marking a task does not change its hash code.
+     *
+     * @return The hash code of this task.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), name);
+    }
 }
 
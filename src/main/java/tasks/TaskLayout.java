@@ -0,0 +1,26 @@
+package tasks;
+
+/**
+ * Represents the different ways a TaskList can hold its tasks in memory.
+ */
+public enum TaskLayout {
+    OBJECTS, // One object per task, indexed for fast lookups
+    COLUMNAR; // Primitive columns, trading index lookups for a much smaller heap
+
+    /**
+     * Converts a configuration string into a corresponding TaskLayout.
+     * Unrecognised values fall back to objects.
+     *
+     * @param input The layout as a string.
+     * @return The corresponding TaskLayout.
+     */
+    public static TaskLayout fromString(String input) {
+        switch (input.toLowerCase()) {
+        case "columnar":
+            return COLUMNAR;
+        case "objects":
+        default:
+            return OBJECTS;
+        }
+    }
+}
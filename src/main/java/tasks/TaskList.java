@@ -1,18 +1,35 @@
 package tasks;
 
+import java.time.LocalDateTime;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Manages list of all tasks.
+ * All modifications should go through this class so that registered listeners stay in sync.
+ * The list also tracks what changed since it was last saved, so that storage can write only those changes.
+ * How the tasks are held in memory is chosen with a {@link TaskLayout}.
  */
 public class TaskList {
-    private final ArrayList<Task> tasks;
+    private final TaskStore store;
+    private final List<Task> allTasks;
+    private final ArrayList<TaskListListener> listeners = new ArrayList<>();
+    private final BitSet dirtyPositions = new BitSet(); // Saved tasks whose status changed since the last save
+    private int savedSize; // Number of leading tasks that have been saved
+    private boolean hasRemovals; // Whether saved tasks have shifted position since the last save
+    private long modificationCount; // Bumped on every add, remove, mark and unmark
+    private final boolean hasKeywordIndex;
+    private int parallelThreshold = ParallelScan.DEFAULT_THRESHOLD;
 
     /**
      * Constructs an empty TaskList.
      */
     public TaskList() {
-        this.tasks = new ArrayList<>();
+        this(new ArrayList<>());
     }
 
     /**
@@ -21,31 +38,425 @@ public class TaskList {
      * @param tasks The list of tasks to initialize the TaskList with.
      */
     public TaskList(ArrayList<Task> tasks) {
-        this.tasks = tasks;
+        this(tasks, TaskLayout.OBJECTS);
+    }
+
+    /**
+     * Constructs a TaskList with an existing list of tasks, held in the given layout.
+     * The tasks are copied into the store of that layout; the given list is not kept.
+     *
+     * @param tasks The list of tasks to initialize the TaskList with.
+     * @param layout How to hold the tasks in memory.
+     */
+    public TaskList(ArrayList<Task> tasks, TaskLayout layout) {
+        this.store = layout == TaskLayout.COLUMNAR ? new ColumnarTaskStore(tasks) : new IndexedTaskStore(tasks);
+        this.savedSize = tasks.size();
+        this.hasKeywordIndex = layout != TaskLayout.COLUMNAR;
+        this.allTasks = new AbstractList<>() {
+            @Override
+            public Task get(int index) {
+                return store.get(index);
+            }
+
+            @Override
+            public int size() {
+                return store.size();
+            }
+
+            @Override
+            public Iterator<Task> iterator() {
+                return store.iterator();
+            }
+        };
     }
 
     /**
      * Gets all tasks in the task list.
+     * The returned list is a read-only view; use the methods of this class to modify it.
      *
-     * @return An ArrayList of Task objects.
+     * @return A List of Task objects.
      */
-    public ArrayList<Task> getAllTasks() {
-        return tasks;
+    public List<Task> getAllTasks() {
+        return allTasks;
+    }
+
+    /**
+     * Registers a listener to be notified of every modification to this list.
+     *
+     * @param listener The listener to register.
+     */
+    public void addListener(TaskListListener listener) {
+        assert listener != null : "Listener should not be null";
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops notifying a listener of modifications to this list.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Starts recording modifications to this list, so that they can all be undone together.
+     *
+     * @return The transaction, which records until it is finished or rolled back.
+     */
+    public TaskListTransaction beginTransaction() {
+        return new TaskListTransaction(this);
+    }
+
+    /**
+     * Gets the task at the given position.
+     *
+     * @param index The zero-based position of the task.
+     * @return The task at that position.
+     */
+    public Task get(int index) {
+        return store.get(index);
+    }
+
+    /**
+     * Describes the task at the given position, exactly as its toString would,
+     * without creating a task object if the layout does not need one.
+     *
+     * @param index The zero-based position of the task.
+     * @return The description of the task.
+     */
+    public String describe(int index) {
+        return store.describe(index);
+    }
+
+    /**
+     * Gets the number of tasks in the list.
+     *
+     * @return The number of tasks.
+     */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * Checks whether the list has no tasks.
+     *
+     * @return true if the list is empty; false otherwise.
+     */
+    public boolean isEmpty() {
+        return store.size() == 0;
+    }
+
+    /**
+     * Appends a task to the end of the list.
+     *
+     * @param task The task to add.
+     */
+    public void add(Task task) {
+        assert task != null : "Task to add should not be null";
+        store.add(task);
+        modificationCount++;
+        int index = store.size() - 1;
+        for (TaskListListener listener : listeners) {
+            listener.taskAdded(index, task);
+        }
+    }
+
+    /**
+     * Removes the task at the given position.
+     *
+     * @param index The zero-based position of the task to remove.
+     * @return The removed task.
+     */
+    public Task remove(int index) {
+        Task removed = store.remove(index);
+        modificationCount++;
+        hasRemovals = true;
+        for (TaskListListener listener : listeners) {
+            listener.taskRemoved(index, removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Marks the task at the given position as done.
+     *
+     * @param index The zero-based position of the task.
+     */
+    public void mark(int index) {
+        setDone(index, true);
+    }
+
+    /**
+     * Marks the task at the given position as not done.
+     *
+     * @param index The zero-based position of the task.
+     */
+    public void unmark(int index) {
+        setDone(index, false);
+    }
+
+    /**
+     * Gets a count that changes whenever a task is added, removed, marked or unmarked,
+     * so that anything built from the list can tell whether it is still current.
+     *
+     * @return The number of modifications made to the list.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
      * Checks if a task with the same description and relevant time details
      * (if applicable) already exists in the task list.
+     * This is a hash index lookup that takes constant time; the columnar layout then scans its rows
+     * only when a task with the same hash code exists.
      *
      * @param newTask The task to check for duplicates.
      * @return true if a task with the same details exists; false otherwise.
      */
     public boolean isDuplicateTask(Task newTask) {
-        for (Task task : tasks) {
-            if (task.equals(newTask)) {
-                return true;
-            }
+        return store.contains(newTask);
+    }
+
+    /**
+     * Gets the positions of saved tasks whose status changed since the last save.
+     * Only meaningful if no tasks have been removed since then.
+     *
+     * @return The positions in ascending order.
+     */
+    public int[] getDirtyPositions() {
+        return dirtyPositions.stream().toArray();
+    }
+
+    /**
+     * Gets the number of leading tasks that were saved at the last save.
+     * Every task from this position onwards has been added since then.
+     *
+     * @return The number of saved tasks.
+     */
+    public int getSavedSize() {
+        return savedSize;
+    }
+
+    /**
+     * Checks whether any task has been removed since the last save, which shifts the saved positions.
+     *
+     * @return true if tasks have been removed; false otherwise.
+     */
+    public boolean hasRemovals() {
+        return hasRemovals;
+    }
+
+    /**
+     * Records that every task in the list has been saved as it is now.
+     */
+    public void markSaved() {
+        dirtyPositions.clear();
+        savedSize = store.size();
+        hasRemovals = false;
+    }
+
+    /**
+     * Finds every deadline due within the given period, with both ends inclusive.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return The deadlines due in that period, in list order.
+     */
+    public List<Deadline> getDeadlinesBetween(LocalDateTime from, LocalDateTime to) {
+        return store.findDeadlinesBetween(from, to);
+    }
+
+    /**
+     * Finds every event that overlaps the given period, with both ends inclusive.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return The events overlapping that period, in list order.
+     */
+    public List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return store.findEventsOverlapping(from, to);
+    }
+
+    /**
+     * Estimates how many tasks {@link #getDeadlinesBetween} reads for the given period, without finding them.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return An upper bound on the number of tasks read.
+     */
+    public int estimateDeadlinesBetween(LocalDateTime from, LocalDateTime to) {
+        return store.estimateDeadlinesBetween(from, to);
+    }
+
+    /**
+     * Estimates how many tasks {@link #getEventsOverlapping} reads for the given period, without finding them.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return An upper bound on the number of tasks read.
+     */
+    public int estimateEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return store.estimateEventsOverlapping(from, to);
+    }
+
+    /**
+     * Finds every task with the given completion status.
+     * With the object layout, this reads an index of tasks by status instead of checking every task.
+     *
+     * @param isDone Whether the tasks to find are done.
+     * @return The tasks with that status, in list order.
+     */
+    public List<Task> getTasksByStatus(boolean isDone) {
+        return store.findByStatus(isDone);
+    }
+
+    /**
+     * Counts the tasks with the given completion status.
+     *
+     * @param isDone Whether the tasks to count are done.
+     * @return The number of tasks with that status.
+     */
+    public int countTasksByStatus(boolean isDone) {
+        return store.countByStatus(isDone);
+    }
+
+    /**
+     * Finds every undone deadline due before the given time.
+     * With the object layout, this reads an index of undone tasks kept in time order, taking O(log n + k) time.
+     *
+     * @param now The current time.
+     * @return The overdue deadlines, earliest due first, with ties in list order.
+     */
+    public List<Deadline> getOverdueDeadlines(LocalDateTime now) {
+        return store.findOverdueDeadlines(now);
+    }
+
+    /**
+     * Finds the next undone deadlines due, and undone events starting, at or after the given time.
+     * With the object layout, this reads an index of undone tasks kept in time order, taking O(log n + k) time.
+     *
+     * @param now The current time.
+     * @param limit The largest number of tasks to return.
+     * @return Up to {@code limit} tasks, soonest first, with ties in list order.
+     */
+    public List<Task> getUpcoming(LocalDateTime now, int limit) {
+        assert limit > 0 : "Limit should be positive in TaskList.getUpcoming()";
+        return store.findUpcoming(now, limit);
+    }
+
+    /**
+     * Finds every task whose name contains any, or all, of the given keywords (case-insensitive).
+     * With the object layout, this merges posting lists from a keyword index instead of checking every task.
+     *
+     * @param keywords The keywords to look for. None may contain a space.
+     * @param isMatchAll Whether a task must contain every keyword rather than any of them.
+     * @return The matching tasks, in list order.
+     */
+    public List<Task> findByKeywords(List<String> keywords, boolean isMatchAll) {
+        if (!hasKeywordIndex && store.size() >= parallelThreshold) {
+            return findByName(name -> KeywordIndex.matches(name, keywords, isMatchAll));
+        }
+        return store.findByKeywords(keywords, isMatchAll);
+    }
+
+    /**
+     * Estimates how many tasks {@link #findByKeywords} reads for the given keywords, without finding them.
+     *
+     * @param keywords The keywords to look for. None may contain a space.
+     * @param isMatchAll Whether a task must contain every keyword rather than any of them.
+     * @return An upper bound on the number of tasks read.
+     */
+    public int estimateKeywordMatches(List<String> keywords, boolean isMatchAll) {
+        return store.estimateKeywordMatches(keywords, isMatchAll);
+    }
+
+    /**
+     * Counts the tasks whose names contain the given keyword (case-insensitive), as {@link #findByKeywords} would.
+     * With the object layout, this reads the sizes of posting lists in the keyword index.
+     *
+     * @param keyword The keyword to look for, which may not contain a space.
+     * @return The number of matching tasks.
+     */
+    public int countKeywordMatches(String keyword) {
+        return store.countKeywordMatches(keyword);
+    }
+
+    /**
+     * Gets the average number of words in a task name, from a running total kept as tasks are added and removed.
+     *
+     * @return The average name length in words, or 0 if the list is empty.
+     */
+    public double getAverageNameLength() {
+        return store.size() == 0 ? 0 : (double) store.countNameWords() / store.size();
+    }
+
+    /**
+     * Finds every task whose name is accepted by the given matcher.
+     * Lists of at least the parallel threshold are scanned in parallel, so the matcher must be thread-safe.
+     *
+     * @param nameMatcher The test applied to each task name.
+     * @return The matching tasks, in list order.
+     */
+    public List<Task> findByName(Predicate<String> nameMatcher) {
+        if (store.size() < parallelThreshold) {
+            return store.findByName(nameMatcher);
+        }
+        return getTasksAt(ParallelScan.filter(store.size(), i -> nameMatcher.test(store.getName(i)),
+                parallelThreshold));
+    }
+
+    /**
+     * Finds every task accepted by the given condition, checking each task in turn.
+     * Lists of at least the parallel threshold are scanned in parallel, so the condition must be thread-safe.
+     *
+     * @param condition The test applied to each task.
+     * @return The matching tasks, in list order.
+     */
+    public List<Task> findMatching(Predicate<Task> condition) {
+        return getTasksAt(ParallelScan.filter(store.size(), i -> condition.test(store.get(i)), parallelThreshold));
+    }
+
+    /**
+     * Sets how many tasks the list must hold before full scans are run in parallel.
+     *
+     * @param parallelThreshold The smallest list size scanned in parallel.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        assert parallelThreshold > 0 : "Parallel threshold should be positive";
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Gets how many tasks, or rows, a scan must cover before it is run in parallel.
+     *
+     * @return The smallest size scanned in parallel.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    private List<Task> getTasksAt(int[] positions) {
+        ArrayList<Task> tasks = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            tasks.add(store.get(position));
+        }
+        return tasks;
+    }
+
+    private void setDone(int index, boolean isDone) {
+        boolean isChanged = store.setDone(index, isDone);
+        modificationCount++;
+        if (isChanged && index < savedSize && !hasRemovals) {
+            dirtyPositions.set(index);
+        }
+        notifyStatusChanged(index, store.get(index));
+    }
+
+    private void notifyStatusChanged(int index, Task task) {
+        for (TaskListListener listener : listeners) {
+            listener.taskStatusChanged(index, task);
         }
-        return false;
     }
 }
@@ -0,0 +1,34 @@
+package tasks;
+
+/**
+ * Receives a notification every time a TaskList is modified.
+ * Used to keep storage and other derived state in sync without rescanning the whole list.
+ */
+public interface TaskListListener {
+    /**
+     * Called after a task has been appended to the list.
+     *
+     * @param index The zero-based position of the new task.
+     * @param task The task that was added.
+     */
+    default void taskAdded(int index, Task task) {
+    }
+
+    /**
+     * Called after a task has been removed from the list.
+     *
+     * @param index The zero-based position the task used to occupy.
+     * @param task The task that was removed.
+     */
+    default void taskRemoved(int index, Task task) {
+    }
+
+    /**
+     * Called after a task has been marked or unmarked.
+     *
+     * @param index The zero-based position of the task.
+     * @param task The task whose completion status changed.
+     */
+    default void taskStatusChanged(int index, Task task) {
+    }
+}
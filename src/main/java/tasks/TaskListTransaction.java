@@ -0,0 +1,91 @@
+package tasks;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Records the modifications made to a task list, so that they can all be undone if a batch of commands fails.
+ *
+ * <p>Tasks are only ever appended at the end, so every modification leaves a prefix of the list untouched
+ * except for the status of its tasks: the positions before the earliest removal. Rolling back removes
+ * everything after that prefix, appends the original tasks again, and restores the statuses that changed
+ * within the prefix. Only the changed positions are touched, through the usual methods of the list,
+ * so its listeners stay in sync.</p>
+ */
+public class TaskListTransaction implements TaskListListener {
+    private final TaskList taskList;
+    private final List<Task> originalTasks;
+    private final BitSet originalDone = new BitSet();
+    private final BitSet changedStatuses = new BitSet();
+    private int untouchedSize; // The positions before this still hold their original tasks
+    private boolean isOpen = true;
+
+    /**
+     * Constructs a TaskListTransaction that records the modifications made to a list from now on.
+     *
+     * @param taskList The task list to record.
+     */
+    TaskListTransaction(TaskList taskList) {
+        this.taskList = taskList;
+        this.originalTasks = new ArrayList<>(taskList.getAllTasks());
+        for (int i = 0; i < originalTasks.size(); i++) {
+            originalDone.set(i, originalTasks.get(i).isDone());
+        }
+        this.untouchedSize = originalTasks.size();
+        taskList.addListener(this);
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        untouchedSize = Math.min(untouchedSize, index);
+    }
+
+    @Override
+    public void taskStatusChanged(int index, Task task) {
+        if (index < untouchedSize) {
+            changedStatuses.set(index);
+        }
+    }
+
+    /**
+     * Keeps every modification and stops recording.
+     */
+    public void finish() {
+        close();
+    }
+
+    /**
+     * Undoes every modification made since the transaction began, and stops recording.
+     */
+    public void rollback() {
+        close();
+        while (taskList.size() > untouchedSize) {
+            taskList.remove(taskList.size() - 1);
+        }
+        for (int i = untouchedSize; i < originalTasks.size(); i++) {
+            taskList.add(originalTasks.get(i));
+            restoreStatus(i);
+        }
+        changedStatuses.stream()
+                .filter(position -> position < untouchedSize)
+                .forEach(this::restoreStatus);
+    }
+
+    private void close() {
+        assert isOpen : "A transaction can only be finished or rolled back once";
+        isOpen = false;
+        taskList.removeListener(this);
+    }
+
+    private void restoreStatus(int index) {
+        boolean wasDone = originalDone.get(index);
+        if (taskList.get(index).isDone() != wasDone) {
+            if (wasDone) {
+                taskList.mark(index);
+            } else {
+                taskList.unmark(index);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package tasks;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Represents the way a TaskList holds its tasks in memory.
+ * Positions are zero-based and follow the visible numbering of the list.
+ */
+interface TaskStore extends Iterable<Task> {
+    /**
+     * Gets the number of tasks in the store.
+     *
+     * @return The number of tasks.
+     */
+    int size();
+
+    /**
+     * Gets the task at the given position.
+     *
+     * @param index The zero-based position of the task.
+     * @return The task at that position.
+     */
+    Task get(int index);
+
+    /**
+     * Appends a task to the end of the store.
+     *
+     * @param task The task to add.
+     */
+    void add(Task task);
+
+    /**
+     * Removes the task at the given position.
+     *
+     * @param index The zero-based position of the task.
+     * @return The removed task.
+     */
+    Task remove(int index);
+
+    /**
+     * Sets the completion status of the task at the given position.
+     *
+     * @param index The zero-based position of the task.
+     * @param isDone Whether the task is done.
+     * @return true if the status changed; false if it already had that status.
+     */
+    boolean setDone(int index, boolean isDone);
+
+    /**
+     * Checks whether a task equal to the given one is in the store.
+     *
+     * @param task The task to look for.
+     * @return true if an equal task exists; false otherwise.
+     */
+    boolean contains(Task task);
+
+    /**
+     * Describes the task at the given position exactly as its toString would.
+     *
+     * @param index The zero-based position of the task.
+     * @return The description of the task.
+     */
+    String describe(int index);
+
+    /**
+     * Gets the name of the task at the given position, without creating a task object if the layout
+     * does not need one. Safe to call from several threads while the store is not being modified.
+     *
+     * @param index The zero-based position of the task.
+     * @return The name of the task.
+     */
+    String getName(int index);
+
+    /**
+     * Finds every task whose name is accepted by the given matcher.
+     *
+     * @param nameMatcher The test applied to each task name.
+     * @return The matching tasks, in list order.
+     */
+    List<Task> findByName(Predicate<String> nameMatcher);
+
+    /**
+     * Finds every task whose name contains any, or all, of the given keywords (case-insensitive).
+     *
+     * @param keywords The keywords to look for. None may contain a space.
+     * @param isMatchAll Whether a task must contain every keyword rather than any of them.
+     * @return The matching tasks, in list order.
+     */
+    List<Task> findByKeywords(List<String> keywords, boolean isMatchAll);
+
+    /**
+     * Estimates how many tasks finding the given keywords reads, without finding them.
+     *
+     * @param keywords The keywords to look for. None may contain a space.
+     * @param isMatchAll Whether a task must contain every keyword rather than any of them.
+     * @return An upper bound on the number of tasks read.
+     */
+    int estimateKeywordMatches(List<String> keywords, boolean isMatchAll);
+
+    /**
+     * Counts the tasks whose names contain the given keyword (case-insensitive), as finding it would.
+     *
+     * @param keyword The keyword to look for, which may not contain a space.
+     * @return The number of matching tasks.
+     */
+    int countKeywordMatches(String keyword);
+
+    /**
+     * Counts the words in the names of all tasks, as split by {@link KeywordIndex#splitWords(String)}.
+     *
+     * @return The total number of name words, counting repeated words every time.
+     */
+    long countNameWords();
+
+    /**
+     * Finds every task with the given completion status.
+     *
+     * @param isDone Whether the tasks to find are done.
+     * @return The tasks with that status, in list order.
+     */
+    List<Task> findByStatus(boolean isDone);
+
+    /**
+     * Counts the tasks with the given completion status.
+     *
+     * @param isDone Whether the tasks to count are done.
+     * @return The number of tasks with that status.
+     */
+    int countByStatus(boolean isDone);
+
+    /**
+     * Finds every deadline due within the given period, with both ends inclusive.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return The deadlines due in that period, in list order.
+     */
+    List<Deadline> findDeadlinesBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Finds every event that overlaps the given period, with both ends inclusive.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return The events overlapping that period, in list order.
+     */
+    List<Event> findEventsOverlapping(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Estimates how many tasks finding the deadlines due within the given period reads, without finding them.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return An upper bound on the number of tasks read.
+     */
+    int estimateDeadlinesBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Estimates how many tasks finding the events overlapping the given period reads, without finding them.
+     *
+     * @param from The start of the period.
+     * @param to The end of the period.
+     * @return An upper bound on the number of tasks read.
+     */
+    int estimateEventsOverlapping(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Finds every undone deadline due before the given time.
+     *
+     * @param now The current time.
+     * @return The overdue deadlines, earliest due first, with ties in list order.
+     */
+    List<Deadline> findOverdueDeadlines(LocalDateTime now);
+
+    /**
+     * Finds the undone deadlines due, and undone events starting, at or after the given time.
+     *
+     * @param now The current time.
+     * @param limit The largest number of tasks to return.
+     * @return Up to {@code limit} tasks, soonest first, with ties in list order.
+     */
+    List<Task> findUpcoming(LocalDateTime now, int limit);
+}
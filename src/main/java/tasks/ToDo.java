@@ -32,6 +32,17 @@ public class ToDo extends Task {
      */
     @Override
     public String toString() {
-        return "[T]" + super.toString();
+        return describe(name, isDone);
+    }
+
+    /**
+     * Describes a to-do from its fields, in the same form as {@link #toString()}.
+     *
+     * @param name The description of the to-do.
+     * @param isDone Whether the to-do is done.
+     * @return A formatted string representing the to-do.
+     */
+    static String describe(String name, boolean isDone) {
+        return "[T]" + Task.describe(name, isDone);
     }
 }
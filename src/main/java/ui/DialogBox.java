@@ -2,12 +2,15 @@ package ui;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
+import commands.ListPage;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
@@ -21,8 +24,11 @@ import javafx.scene.shape.Circle;
  * It extends HBox and allows messages to be displayed with an image.
  */
 public class DialogBox extends HBox {
+    private static final double ROW_HEIGHT = 24;
+    private static final int MAX_VISIBLE_ROWS = 15;
     private final Label text;
     private final ImageView displayPicture;
+    private final VBox messageWithTimestamp;
 
     /**
      * Constructs a DialogBox with a specified message and image.
@@ -49,7 +55,7 @@ public class DialogBox extends HBox {
         timestampLabel.setStyle("-fx-text-fill: grey; -fx-font-size: 10;");
 
         // Group message + timestamp vertically
-        VBox messageWithTimestamp = new VBox(text, timestampLabel);
+        messageWithTimestamp = new VBox(text, timestampLabel);
         messageWithTimestamp.setSpacing(2);
         // Create a circular clip for the image
         Circle clip = new Circle(25, 21, 13.5); // x, y, radius
@@ -106,4 +112,33 @@ public class DialogBox extends HBox {
                 + " -fx-border-radius: 10; -fx-background-radius: 10;");
         return dialogBox;
     }
+
+    /**
+     * Creates a DialogBox for a page of tasks, with flipped alignment.
+     * The rows go in a list view, which only creates the rows scrolled into sight,
+     * so long lists are never turned into one huge label.
+     *
+     * @param page The page of tasks to show.
+     * @param piggyImage The PiggyPlanner’s profile image.
+     * @return A DialogBox aligned to the left.
+     */
+    public static DialogBox getPiggyPlannerListDialog(ListPage page, Image piggyImage) {
+        DialogBox dialogBox = getPiggyPlannerDialog(page.getHeader(), piggyImage);
+        List<String> rows = page.getRows();
+        int insertAt = 1; // Just below the header, above the timestamp
+        if (!rows.isEmpty()) {
+            ListView<String> rowView = new ListView<>(FXCollections.observableList(rows));
+            rowView.setFixedCellSize(ROW_HEIGHT);
+            rowView.setPrefHeight(ROW_HEIGHT * Math.min(rows.size(), MAX_VISIBLE_ROWS) + 2);
+            rowView.setMaxWidth(280);
+            dialogBox.messageWithTimestamp.getChildren().add(insertAt++, rowView);
+        }
+        if (!page.getFooter().isEmpty()) {
+            Label footer = new Label(page.getFooter());
+            footer.setWrapText(true);
+            footer.setMaxWidth(280);
+            dialogBox.messageWithTimestamp.getChildren().add(insertAt, footer);
+        }
+        return dialogBox;
+    }
 }
@@ -1,15 +1,24 @@
 package ui;
 
 import java.io.IOException;
+import java.util.List;
 
+import commands.Autocompleter;
+import commands.CommandLine;
+import commands.CommandType;
 import exception.PiggyException;
+import javafx.animation.KeyFrame;
 import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
+import javafx.geometry.Side;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
@@ -18,6 +27,7 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 import piggyplanner.PiggyPlanner;
+import tasks.ReminderScheduler;
 /**
  * MainWindow initializes and manages the graphical user interface (GUI) for PiggyPlanner.
  * It extends the JavaFX Application class and handles user interactions.
@@ -36,6 +46,8 @@ public class MainWindow extends Application {
     private final Image piggyImage = new Image(this.getClass().getResourceAsStream("/images/pig.png"));
 
     private PiggyPlanner piggyPlanner;
+    private Autocompleter autocompleter;
+    private final ContextMenu suggestionMenu = new ContextMenu();
 
     /**
      * Starts the JavaFX application, setting up the primary stage and loading the UI components.
@@ -57,8 +69,11 @@ public class MainWindow extends Application {
             controller.setPiggyPlanner(this.piggyPlanner); // Pass initialized piggyPlanner to controller
             Scene scene = new Scene(ap); //scene = window content
 
-            // Set up the stage (window)
-            stage.setTitle("PiggyPlanner 🐷");
+            // Set up the stage (window), and keep the overdue count in its title up to date
+            updateTitle(stage);
+            Timeline titleUpdater = new Timeline(new KeyFrame(Duration.minutes(1), event -> updateTitle(stage)));
+            titleUpdater.setCycleCount(Timeline.INDEFINITE);
+            titleUpdater.play();
             stage.setScene(scene);
 
             //Set  initial window size
@@ -79,6 +94,21 @@ public class MainWindow extends Application {
         }
     }
 
+    private void updateTitle(Stage stage) {
+        int overdueCount = piggyPlanner.countOverdue();
+        stage.setTitle(overdueCount == 0 ? "PiggyPlanner 🐷" : "PiggyPlanner 🐷 (" + overdueCount + " overdue)");
+    }
+
+    /**
+     * Saves any outstanding changes when the JavaFX application closes.
+     */
+    @Override
+    public void stop() {
+        if (piggyPlanner != null) {
+            piggyPlanner.shutdown();
+        }
+    }
+
     /**
      * Initializes the UI components and sets up event listeners.
      */
@@ -102,6 +132,9 @@ public class MainWindow extends Application {
 
         // Add key event listener for Enter key
         userInput.setOnAction(event -> handleUserInput());
+
+        // Suggest commands and tasks as the user types
+        userInput.textProperty().addListener((observable, oldText, newText) -> showSuggestions(newText));
     }
 
     /**
@@ -111,16 +144,24 @@ public class MainWindow extends Application {
     @FXML
     private void handleUserInput() {
         String input = userInput.getText(); // Get user's input from text field
-        String response = piggyPlanner.getResponse(input); // Get response from PiggyPlanner logic
+        DialogBox responseDialog;
+        boolean isBatching = piggyPlanner.isCollectingBatch(); // Commands of a batch are only collected
+        if (CommandLine.parse(input).getCommandType() == CommandType.LIST && !isBatching) {
+            responseDialog = getListDialog(input); // Rows are shown lazily instead of as one long message
+        } else {
+            String response = piggyPlanner.getResponse(input); // Get response from PiggyPlanner logic
+            responseDialog = DialogBox.getPiggyPlannerDialog(response, piggyImage);
+        }
 
         // Display user input and PiggyPlanner's response in the dialogContainer
         dialogContainer.getChildren().addAll(
                 DialogBox.getUserDialog(input, userImage),
-                DialogBox.getPiggyPlannerDialog(response, piggyImage)
+                responseDialog
         );
         userInput.clear(); // Clear input field after sending msg
+        suggestionMenu.hide();
 
-        if (input.equalsIgnoreCase("bye")) {
+        if (input.equalsIgnoreCase("bye") && !isBatching) {
             // Delay closing the window for 1.5 seconds
             PauseTransition delay = new PauseTransition(Duration.seconds(1.5));
             delay.setOnFinished(event -> Platform.exit());
@@ -128,6 +169,37 @@ public class MainWindow extends Application {
         }
     }
 
+    private DialogBox getListDialog(String input) {
+        try {
+            return DialogBox.getPiggyPlannerListDialog(piggyPlanner.getListPage(input), piggyImage);
+        } catch (PiggyException e) {
+            return DialogBox.getPiggyPlannerDialog(e.getMessage(), piggyImage);
+        }
+    }
+
+    private void showSuggestions(String input) {
+        if (autocompleter == null) {
+            return;
+        }
+        List<Autocompleter.Suggestion> suggestions = autocompleter.suggest(input);
+        if (suggestions.isEmpty()) {
+            suggestionMenu.hide();
+            return;
+        }
+        suggestionMenu.getItems().clear();
+        for (Autocompleter.Suggestion suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion.getLabel());
+            item.setOnAction(event -> {
+                userInput.setText(suggestion.getText());
+                userInput.positionCaret(suggestion.getText().length());
+            });
+            suggestionMenu.getItems().add(item);
+        }
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(userInput, Side.TOP, 0, 0);
+        }
+    }
+
     /**
      * Sets the PiggyPlanner instance for the UI.
      *
@@ -135,5 +207,16 @@ public class MainWindow extends Application {
      */
     public void setPiggyPlanner(PiggyPlanner piggyPlanner) {
         this.piggyPlanner = piggyPlanner;
+        this.autocompleter = piggyPlanner.getAutocompleter();
+        String loadWarnings = piggyPlanner.getLoadWarnings();
+        if (loadWarnings != null) {
+            dialogContainer.getChildren().add(DialogBox.getPiggyPlannerDialog(loadWarnings, piggyImage));
+        }
+
+        // Reminders come from a background thread, so they are shown on the JavaFX thread
+        ReminderScheduler reminders = piggyPlanner.getReminderScheduler();
+        reminders.addListener(message -> Platform.runLater(() ->
+                dialogContainer.getChildren().add(DialogBox.getPiggyPlannerDialog(message, piggyImage))));
+        reminders.start();
     }
 }
@@ -1,5 +1,11 @@
 package ui;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+
+import commands.ListPage;
+
 /**
  * Handles user interface interactions by displaying messages.
  */
@@ -30,4 +36,24 @@ public class Ui {
         System.out.println(message);
         System.out.println("____________________________________________________________");
     }
+
+    /**
+     * Displays a page of tasks within a formatted separator, writing it row by row
+     * instead of building the whole message first.
+     *
+     * @param page The page to be displayed.
+     */
+    public static void showMessage(ListPage page) {
+        System.out.println("____________________________________________________________");
+        // Not closed, since that would close System.out
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out));
+        try {
+            page.writeTo(out);
+            out.newLine();
+            out.flush();
+        } catch (IOException e) {
+            System.out.println("Sorry, I couldn't show the list: " + e.getMessage());
+        }
+        System.out.println("____________________________________________________________");
+    }
 }
@@ -3,20 +3,18 @@ package commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.util.ArrayList;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import exception.PiggyException;
-import tasks.Task;
+import tasks.TaskList;
 
 public class AddTaskTest {
-    private ArrayList<Task> taskList;
+    private TaskList taskList;
 
     @BeforeEach
     void setUp() {
-        taskList = new ArrayList<>();
+        taskList = new TaskList();
     }
 
     @Test
@@ -117,5 +115,17 @@ public class AddTaskTest {
         assertEquals("Invalid date format! Try again and use: d/M/yyyy HHmm (e.g., 2/12/2019 1800)."
                 + "\nOr check that the start time is before the end time.", thrown.getMessage());
     }
-}
 
+    @Test
+    void clashingEvent_warns() throws PiggyException {
+        AddTask.event("event Team meeting /from 1/4/2025 0900 /to 1/4/2025 1100", taskList);
+        AddTask.event("event Lunch /from 1/4/2025 1100 /to 1/4/2025 1200", taskList);
+        String response = AddTask.event("event Dentist /from 1/4/2025 1030 /to 1/4/2025 1130", taskList);
+        assertEquals("New task incoming! I've added it to our list :)\n "
+                + "[E][ ] Dentist (from: tuesday, apr 01 2025, 10:30am to: tuesday, apr 01 2025, 11:30am)"
+                + "\nNow we have 3 tasks in the list."
+                + "\nHeads up! This clashes with:"
+                + "\n [E][ ] Team meeting (from: tuesday, apr 01 2025, 9:00am to: tuesday, apr 01 2025, 11:00am)"
+                + "\n [E][ ] Lunch (from: tuesday, apr 01 2025, 11:00am to: tuesday, apr 01 2025, 12:00pm)", response);
+    }
+}
@@ -0,0 +1,101 @@
+package commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tasks.TaskList;
+import tasks.ToDo;
+
+public class AutocompleterTest {
+    private TaskList taskList;
+
+    @BeforeEach
+    void setUp() {
+        taskList = new TaskList();
+        taskList.add(new ToDo("Buy milk"));
+        taskList.add(new ToDo("Call mom"));
+        taskList.add(new ToDo("Buy bread"));
+        taskList.add(new ToDo("Read book"));
+    }
+
+    private static List<String> texts(List<Autocompleter.Suggestion> suggestions) {
+        return suggestions.stream().map(Autocompleter.Suggestion::getText).collect(Collectors.toList());
+    }
+
+    @Test
+    void suggest_commandPrefix_completesCommandWords() {
+        Autocompleter autocompleter = new Autocompleter(taskList);
+        assertEquals(List.of("deadline", "delete"), texts(autocompleter.suggest("de")));
+        assertEquals(List.of("unmark"), texts(autocompleter.suggest("  UN")));
+        assertEquals(List.of(), texts(autocompleter.suggest("xyz")));
+        assertEquals(List.of(), texts(autocompleter.suggest("")));
+    }
+
+    @Test
+    void suggest_taskWordPrefix_resolvesToPositions() {
+        Autocompleter autocompleter = new Autocompleter(taskList);
+        assertEquals(List.of("delete 1", "delete 3"), texts(autocompleter.suggest("delete bu")));
+        assertEquals(List.of("delete 3"), texts(autocompleter.suggest("delete buy br")));
+        assertEquals("3. [T][ ] Buy bread", autocompleter.suggest("delete bre").get(0).getLabel());
+        assertEquals(List.of(), texts(autocompleter.suggest("delete 3")));
+        assertEquals(List.of(), texts(autocompleter.suggest("todo bu")));
+    }
+
+    @Test
+    void suggest_markAndUnmark_onlyOfferTasksThatCanChange() {
+        Autocompleter autocompleter = new Autocompleter(taskList);
+        taskList.mark(0);
+        assertEquals(List.of("mark 3"), texts(autocompleter.suggest("mark bu")));
+        assertEquals(List.of("unmark 1"), texts(autocompleter.suggest("unmark bu")));
+    }
+
+    @Test
+    void suggest_afterListChanges_followsNewPositions() {
+        Autocompleter autocompleter = new Autocompleter(taskList);
+        taskList.remove(0);
+        taskList.add(new ToDo("Buy eggs"));
+        assertEquals(List.of("delete 2", "delete 4"), texts(autocompleter.suggest("delete buy")));
+        assertEquals(List.of(), texts(autocompleter.suggest("delete mil")));
+    }
+
+    @Test
+    void suggest_findKeyword_completesFromTaskWords() {
+        Autocompleter autocompleter = new Autocompleter(taskList);
+        assertEquals(List.of("find milk book", "find milk bread", "find milk buy"),
+                texts(autocompleter.suggest("find milk b")));
+        assertEquals(List.of(), texts(autocompleter.suggest("find buy ")));
+    }
+
+    @Test
+    void suggest_randomEdits_matchesRescan() {
+        Random random = new Random(18);
+        String[] words = {"alpha", "alps", "beta", "bet", "gamma"};
+        taskList = new TaskList();
+        Autocompleter autocompleter = new Autocompleter(taskList);
+        for (int step = 0; step < 500; step++) {
+            if (taskList.isEmpty() || random.nextInt(3) > 0) {
+                taskList.add(new ToDo(words[random.nextInt(words.length)] + " " + step));
+            } else {
+                taskList.remove(random.nextInt(taskList.size()));
+            }
+            String prefix = words[random.nextInt(words.length)].substring(0, 2);
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < taskList.size(); i++) {
+                if (taskList.get(i).getName().startsWith(prefix)) {
+                    expected.add("delete " + (i + 1));
+                }
+            }
+            List<String> actual = texts(autocompleter.suggest("delete " + prefix));
+            assertEquals(Math.min(expected.size(), Autocompleter.MAX_SUGGESTIONS), actual.size());
+            assertTrue(expected.containsAll(actual));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.TaskList;
+import tasks.ToDo;
+
+public class CommandLineTest {
+    @Test
+    void parse_commandAndArguments_viewsWithoutWhitespace() {
+        CommandLine line = CommandLine.parse("  deadline   Submit report /by 12/3/2025 1800  ");
+        assertEquals(CommandType.DEADLINE, line.getCommandType());
+        assertEquals("deadline", line.getCommandWord().toString());
+        assertEquals("Submit report /by 12/3/2025 1800", line.getArguments().toString());
+        int by = line.getFlagOffset("/by");
+        assertEquals("Submit report", line.slice(line.getArgumentStart(), by).toString());
+        assertEquals("12/3/2025 1800", line.slice(by + 3, line.getEnd()).toString());
+        assertEquals(-1, line.getFlagOffset("/from"));
+    }
+
+    @Test
+    void parse_noArguments_emptyArguments() {
+        CommandLine line = CommandLine.parse("list   ");
+        assertEquals(CommandType.LIST, line.getCommandType());
+        assertFalse(line.hasArguments());
+        assertEquals("", line.getArguments().toString());
+        assertThrows(NumberFormatException.class, line::parseFirstArgumentAsInt);
+    }
+
+    @Test
+    void parse_eventFlags_firstOfEach() {
+        CommandLine line = CommandLine.parse("event Team /from 1/4/2025 0900 /to 1/4/2025 1100");
+        assertEquals(11, line.getFlagOffset("/from"));
+        assertEquals(31, line.getFlagOffset("/to"));
+        assertEquals(-1, CommandLine.parse("event/to x").getFlagOffset("/to")); // Part of the command word
+    }
+
+    @Test
+    void parseFirstArgumentAsInt_readsFirstWord() {
+        assertEquals(12, CommandLine.parse("mark 12 3").parseFirstArgumentAsInt());
+        assertThrows(NumberFormatException.class, () -> CommandLine.parse("mark one").parseFirstArgumentAsInt());
+    }
+
+    @Test
+    void fromString_everyKeyword_anyCase() {
+        for (CommandType command : CommandType.values()) {
+            if (command.getKeyword() == null) {
+                continue;
+            }
+            assertEquals(command, CommandType.fromString(command.getKeyword()));
+            assertEquals(command, CommandType.fromString(command.getKeyword().toUpperCase()));
+            assertEquals(CommandType.UNKNOWN, CommandType.fromString(command.getKeyword() + "s"));
+            assertEquals(CommandType.UNKNOWN, CommandType.fromString(command.getKeyword().substring(1)));
+        }
+        assertEquals(CommandType.UNKNOWN, CommandType.fromString(""));
+        assertEquals(CommandType.UNKNOWN, CommandType.fromString("fist"));
+    }
+
+    @Test
+    void registry_dispatchesToHandler() throws PiggyException {
+        TaskList taskList = new TaskList();
+        CommandRegistry registry = new CommandRegistry().register(CommandType.TODO, AddTask::todo);
+        registry.execute(CommandLine.parse("TODO read book"), taskList);
+        assertEquals(new ToDo("read book"), taskList.get(0));
+        PiggyException e = assertThrows(PiggyException.class, () ->
+                registry.execute(CommandLine.parse("list"), taskList));
+        assertEquals("Unfortunately, I don't know what that means. Please try again.", e.getMessage());
+    }
+}
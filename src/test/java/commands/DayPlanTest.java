@@ -1,11 +1,16 @@
 package commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-//import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,15 +18,15 @@ import org.junit.jupiter.api.Test;
 import exception.PiggyException;
 import tasks.Deadline;
 import tasks.Event;
-import tasks.Task;
+import tasks.TaskList;
 
 public class DayPlanTest {
     private static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
-    private ArrayList<Task> taskList;
+    private TaskList taskList;
 
     @BeforeEach
     void setUp() {
-        taskList = new ArrayList<>();
+        taskList = new TaskList();
     }
 
     @Test
@@ -45,4 +50,76 @@ public class DayPlanTest {
         String result = DayPlan.execute("agenda for 10/2/2025", taskList);
         assertEquals(expectedOutput, result);
     }
+
+    @Test
+    void range_groupsByDay_skipsEmptyDays() throws PiggyException {
+        taskList.add(new Deadline("Submit proposal", LocalDateTime.parse("11/2/2025 2359", INPUT_FORMATTER)));
+        taskList.add(new Event("Trip",
+                LocalDateTime.parse("8/2/2025 0900", INPUT_FORMATTER),
+                LocalDateTime.parse("10/2/2025 1700", INPUT_FORMATTER)));
+        taskList.add(new Deadline("Pay rent", LocalDateTime.parse("20/2/2025 1200", INPUT_FORMATTER)));
+
+        String expectedOutput = "Here's what's happening from Sunday, Feb 09 2025 to Thursday, Feb 13 2025:\n\n"
+                + "Sunday, Feb 09 2025:\nDEADLINES:\nYou have no deadlines on this day.\n"
+                + "\nEVENTS:\nTrip from: Saturday, Feb 08 2025, to: Monday, Feb 10 2025\n"
+                + "You have 1 event on this day.\n\n"
+                + "Monday, Feb 10 2025:\nDEADLINES:\nYou have no deadlines on this day.\n"
+                + "\nEVENTS:\nTrip from: Saturday, Feb 08 2025, to: Monday, Feb 10 2025\n"
+                + "You have 1 event on this day.\n\n"
+                + "Tuesday, Feb 11 2025:\nDEADLINES:\nSubmit proposal due at: 11:59pm\n"
+                + "You have 1 deadline on this day.\n\nEVENTS:\nYou have no events on this day.";
+
+        assertEquals(expectedOutput, DayPlan.execute("agenda from 9/2/2025 to 13/2/2025", taskList));
+        assertEquals("Nothing is happening from Friday, Feb 14 2025 to Tuesday, Feb 18 2025. Enjoy the free time!",
+                DayPlan.execute("agenda from 14/2/2025 to 18/2/2025", taskList));
+    }
+
+    @Test
+    void weekAndMonth_relativeToToday() throws PiggyException {
+        taskList.add(new Deadline("Pay rent", LocalDateTime.parse("20/2/2025 1200", INPUT_FORMATTER)));
+        LocalDate today = LocalDate.of(2025, 2, 12);
+
+        assertTrue(DayPlan.execute("agenda week", taskList, today)
+                .startsWith("Nothing is happening from Monday, Feb 10 2025 to Sunday, Feb 16 2025."));
+        assertTrue(DayPlan.execute("agenda MONTH", taskList, today)
+                .startsWith("Here's what's happening from Saturday, Feb 01 2025 to Friday, Feb 28 2025:"));
+        assertTrue(DayPlan.isRelativeToToday("agenda week"));
+        assertFalse(DayPlan.isRelativeToToday("agenda for 12/2/2025"));
+    }
+
+    @Test
+    void range_invalid_throws() {
+        taskList.add(new Deadline("Pay rent", LocalDateTime.parse("20/2/2025 1200", INPUT_FORMATTER)));
+        assertThrows(PiggyException.class, () -> DayPlan.execute("agenda from 14/2/2025 to 1/2/2025", taskList));
+        assertThrows(PiggyException.class, () -> DayPlan.execute("agenda from 14/2/2025", taskList));
+        assertThrows(PiggyException.class, () -> DayPlan.execute("agenda from 14/2/2025 until 1/3/2025", taskList));
+    }
+
+    @Test
+    void range_randomTasks_matchesSingleDays() throws PiggyException {
+        Random random = new Random(20);
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 0, 0);
+        for (int i = 0; i < 60; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(24 * 40));
+            if (random.nextBoolean()) {
+                taskList.add(new Deadline("deadline " + i, start));
+            } else {
+                taskList.add(new Event("event " + i, start, start.plusHours(random.nextInt(24 * 5))));
+            }
+        }
+
+        LocalDate from = LocalDate.of(2025, 3, 5);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        List<String> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            String plan = DayPlan.execute("agenda for " + day.getDayOfMonth() + "/3/2025", taskList);
+            if (!plan.contains("no deadlines") || !plan.contains("no events")) {
+                String header = "Here's what's happening on ";
+                days.add(plan.substring(header.length()).replaceFirst(":\n\n", ":\n"));
+            }
+        }
+        String expected = "Here's what's happening from Wednesday, Mar 05 2025 to Monday, Mar 31 2025:\n\n"
+                + String.join("\n\n", days);
+        assertEquals(expected, DayPlan.execute("agenda from 5/3/2025 to 31/3/2025", taskList));
+    }
 }
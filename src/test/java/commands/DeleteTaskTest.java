@@ -3,21 +3,19 @@ package commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.util.ArrayList;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import exception.PiggyException;
-import tasks.Task;
+import tasks.TaskList;
 import tasks.ToDo;
 
 public class DeleteTaskTest {
-    private ArrayList<Task> taskList;
+    private TaskList taskList;
 
     @BeforeEach
     void setUp() {
-        taskList = new ArrayList<>();
+        taskList = new TaskList();
     }
 
     @Test
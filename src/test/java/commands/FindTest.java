@@ -1,10 +1,10 @@
 package commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,18 +12,18 @@ import org.junit.jupiter.api.Test;
 import exception.PiggyException;
 import tasks.Deadline;
 import tasks.Event;
-import tasks.Task;
+import tasks.TaskList;
 import tasks.ToDo;
 
 
 
 public class FindTest {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
-    private ArrayList<Task> taskList;
+    private TaskList taskList;
 
     @BeforeEach
     void setUp() throws PiggyException {
-        taskList = new ArrayList<>();
+        taskList = new TaskList();
         taskList.add(new ToDo("Buy milk"));
         taskList.add(new ToDo("Call John"));
         taskList.add(new Deadline("Submit report", LocalDateTime.parse("10/2/2025 2359", FORMATTER)));
@@ -71,4 +71,58 @@ public class FindTest {
         String result = Find.execute("find", taskList);
         assertEquals("You forgot to tell me what keyword(s) to look for. Try again!", result);
     }
+
+    @Test
+    void findAll_onlyTasksWithEveryKeyword() {
+        taskList.add(new ToDo("Buy milk for John"));
+        String result = Find.execute("find /all JOHN mil", taskList);
+        String expected = "Here are the tasks I found related to the keywords: JOHN, mil:\n"
+                + "1. [T][ ] Buy milk for John";
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void findAll_withoutKeywords() {
+        String result = Find.execute("find /all", taskList);
+        assertEquals("You forgot to tell me what keyword(s) to look for. Try again!", result);
+    }
+
+    @Test
+    void findFuzzy_toleratesTypos() {
+        String result = Find.execute("find ~MEETNIG ~jhn", taskList);
+        String expected = "Here are the tasks I found related to the keywords: ~MEETNIG, ~jhn:\n"
+                + "1. [T][ ] Call John\n"
+                + "2. [E][ ] Team meeting (from: saturday, feb 15 2025, 10:00am to: saturday, feb 15 2025, 12:00pm)";
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void findFuzzy_tooManyTypos_noMatch() {
+        String result = Find.execute("find ~mlek", taskList);
+        assertEquals("I couldn't find any tasks related to the keywords: \"~mlek\".\nTry different ones!", result);
+    }
+
+    @Test
+    void findManyMatches_showsTopTenWithFooter() {
+        for (int i = 0; i < 12; i++) {
+            taskList.add(new ToDo("Buy eggs " + i));
+        }
+        String result = Find.execute("find buy", taskList);
+        String[] lines = result.split("\n");
+        assertEquals(12, lines.length);
+        assertEquals("1. [T][ ] Buy milk", lines[1]);
+        assertEquals("(showing 10 of 13 matches, most relevant first)", lines[11]);
+    }
+
+    @Test
+    void execute_nearDeadline_rankedFirstOnlyWhileNear() {
+        taskList = new TaskList();
+        taskList.add(new ToDo("Read report"));
+        taskList.add(new Deadline("Send report", LocalDateTime.parse("10/2/2025 2359", FORMATTER)));
+
+        String near = Find.execute("find report", taskList, LocalDateTime.parse("8/2/2025 0900", FORMATTER));
+        String far = Find.execute("find report", taskList, LocalDateTime.parse("1/1/2025 0900", FORMATTER));
+        assertTrue(near.indexOf("Send report") < near.indexOf("Read report"));
+        assertTrue(far.indexOf("Read report") < far.indexOf("Send report"));
+    }
 }
@@ -0,0 +1,61 @@
+package commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.Event;
+import tasks.TaskList;
+
+public class FreeTimeTest {
+    private static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+    private TaskList taskList;
+
+    @BeforeEach
+    void setUp() throws PiggyException {
+        taskList = new TaskList();
+        taskList.add(event("Overnight shift", "9/2/2025 2200", "10/2/2025 0700"));
+        taskList.add(event("Conference", "10/2/2025 0900", "10/2/2025 1200"));
+        taskList.add(event("Workshop", "10/2/2025 1100", "10/2/2025 1300"));
+        taskList.add(event("Call", "10/2/2025 1330", "10/2/2025 1400"));
+    }
+
+    private static Event event(String name, String start, String end) throws PiggyException {
+        return new Event(name, LocalDateTime.parse(start, INPUT_FORMATTER), LocalDateTime.parse(end, INPUT_FORMATTER));
+    }
+
+    @Test
+    void execute_busyDay_listsGapsBetweenEvents() throws PiggyException {
+        assertEquals("Here's when you're free on Monday, Feb 10 2025:\n"
+                + "1. 7:00am to 9:00am\n2. 1:00pm to 1:30pm\n3. 2:00pm to end of day",
+                FreeTime.execute("free 10/2/2025", taskList));
+        assertEquals("Here's when you're free of at least 1 hour on Monday, Feb 10 2025:\n"
+                + "1. 7:00am to 9:00am\n2. 2:00pm to end of day",
+                FreeTime.execute("free 10/2/2025 60", taskList));
+        assertEquals("Here's when you're free of at least 2 hours 30 minutes on Monday, Feb 10 2025:\n"
+                + "1. 2:00pm to end of day",
+                FreeTime.execute("free 10/2/2025 2h30m", taskList));
+    }
+
+    @Test
+    void execute_emptyOrFullDay() throws PiggyException {
+        assertEquals("You're free all day on Tuesday, Feb 11 2025!", FreeTime.execute("free 11/2/2025", taskList));
+        taskList.add(event("Retreat", "12/2/2025 0000", "13/2/2025 0000"));
+        assertEquals("You have no free time on Wednesday, Feb 12 2025. Busy day!",
+                FreeTime.execute("free 12/2/2025", taskList));
+    }
+
+    @Test
+    void execute_invalidInput_throws() {
+        assertThrows(PiggyException.class, () -> FreeTime.execute("free", taskList));
+        assertThrows(PiggyException.class, () -> FreeTime.execute("free 2025-02-10", taskList));
+        assertThrows(PiggyException.class, () -> FreeTime.execute("free 10/2/2025 soon", taskList));
+        assertThrows(PiggyException.class, () -> FreeTime.execute("free 10/2/2025 25h", taskList));
+    }
+}
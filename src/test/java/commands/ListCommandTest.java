@@ -1,9 +1,10 @@
 package commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,16 +12,16 @@ import org.junit.jupiter.api.Test;
 import exception.PiggyException;
 import tasks.Deadline;
 import tasks.Event;
-import tasks.Task;
+import tasks.TaskList;
 import tasks.ToDo;
 
 
 public class ListCommandTest {
-    private ArrayList<Task> taskList;
+    private TaskList taskList;
 
     @BeforeEach
     void setUp() {
-        taskList = new ArrayList<>();
+        taskList = new TaskList();
     }
 
     @Test
@@ -41,5 +42,47 @@ public class ListCommandTest {
 
         assertEquals(expected, ListCommand.execute(taskList));
     }
-}
 
+    @Test
+    void execute_pageNumberAndSize_showsOnlyThatPage() throws PiggyException {
+        for (int i = 1; i <= 5; i++) {
+            taskList.add(new ToDo("Task " + i));
+        }
+
+        String expected = "Here is our to-do list (page 2 of 3):\n"
+                + "3. [T][ ] Task 3\n"
+                + "4. [T][ ] Task 4\n"
+                + "Type \"list 3 --page-size 2\" to see the next page.";
+        assertEquals(expected, ListCommand.execute("list 2 --page-size 2", taskList));
+        assertEquals("Here is our to-do list (page 3 of 3):\n5. [T][ ] Task 5",
+                ListCommand.execute("list --page-size 2 3", taskList));
+        assertEquals(ListCommand.execute(taskList).replace("list:", "list (page 1 of 1):"),
+                ListCommand.execute("list 1", taskList));
+    }
+
+    @Test
+    void execute_invalidPages_throw() {
+        taskList.add(new ToDo("Buy milk"));
+        String[] inputs = {"list 2", "list 0", "list two", "list --page-size", "list --page-size -5"};
+        for (String input : inputs) {
+            assertThrows(PiggyException.class, () -> ListCommand.execute(input, taskList), input);
+        }
+    }
+
+    @Test
+    void getPage_streamedAndLazyRows_matchExecute() throws Exception {
+        for (int i = 1; i <= 45; i++) {
+            taskList.add(new ToDo("Task " + i));
+        }
+        ListPage page = ListCommand.getPage("list 2", taskList);
+
+        StringBuilder streamed = new StringBuilder();
+        page.writeTo(streamed);
+        assertEquals(ListCommand.execute("list 2", taskList), streamed.toString());
+
+        List<String> rows = page.getRows();
+        assertEquals(20, rows.size());
+        assertEquals("21. [T][ ] Task 21", rows.get(0));
+        assertEquals("40. [T][ ] Task 40", rows.get(19));
+    }
+}
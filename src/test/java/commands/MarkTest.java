@@ -9,17 +9,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import exception.PiggyException;
-import tasks.Task;
+import tasks.TaskLayout;
+import tasks.TaskList;
 import tasks.ToDo;
 
 
 
 public class MarkTest {
-    private ArrayList<Task> taskList;
+    private TaskList taskList;
 
     @BeforeEach
     void setUp() {
-        taskList = new ArrayList<>();
+        taskList = new TaskList();
     }
 
 
@@ -58,4 +59,13 @@ public class MarkTest {
                         + "\nI've marked this task as done:\n  [T][X] Buy pen",
                 Mark.execute("mark 1", taskList));
     }
+
+    @Test
+    void execute_markSuccessColumnar() throws PiggyException {
+        taskList = new TaskList(new ArrayList<>(), TaskLayout.COLUMNAR);
+        taskList.add(new ToDo("Buy pen"));
+        assertEquals("Good work! Let's keep going."
+                        + "\nI've marked this task as done:\n  [T][X] Buy pen",
+                Mark.execute("mark 1", taskList));
+    }
 }
@@ -0,0 +1,39 @@
+package commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.TaskList;
+import tasks.ToDo;
+
+public class QueryCommandTest {
+    private TaskList taskList;
+
+    @BeforeEach
+    void setUp() {
+        taskList = new TaskList();
+        taskList.add(new ToDo("Make slides"));
+        taskList.add(new Deadline("Submit report", LocalDateTime.of(2025, 11, 30, 23, 59)));
+        taskList.add(new Deadline("Print slides", LocalDateTime.of(2025, 12, 2, 9, 0)));
+    }
+
+    @Test
+    void execute_filtersAndKeywords() throws PiggyException {
+        String result = QueryCommand.execute("query status:undone type:deadline due<1/12/2025 "
+                + "\"report\" OR \"slides\"", taskList);
+        assertEquals("Here are the tasks matching your query:\n"
+                + "1. [D][ ] Submit report (by: sunday, nov 30 2025, 11:59pm)", result);
+    }
+
+    @Test
+    void execute_noMatch() throws PiggyException {
+        assertEquals("No tasks match your query. Try loosening it!",
+                QueryCommand.execute("query status:done", taskList));
+    }
+}
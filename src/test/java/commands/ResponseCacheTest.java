@@ -0,0 +1,80 @@
+package commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.TaskList;
+import tasks.ToDo;
+
+public class ResponseCacheTest {
+    private TaskList taskList;
+    private int builds;
+
+    @BeforeEach
+    void setUp() {
+        taskList = new TaskList();
+        taskList.add(new ToDo("Buy milk"));
+        builds = 0;
+    }
+
+    @Test
+    void getResponse_repeatedCommand_builtOnce() throws PiggyException {
+        ResponseCache cache = new ResponseCache(4);
+        assertEquals(ListCommand.execute(taskList), cache.getResponse("list", taskList, this::list));
+        assertEquals(ListCommand.execute(taskList), cache.getResponse("  LIST ", taskList, this::list));
+        assertEquals(1, builds);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void getResponse_afterEveryModification_rebuilt() throws PiggyException {
+        ResponseCache cache = new ResponseCache(4);
+        cache.getResponse("list", taskList, this::list);
+        taskList.add(new ToDo("Call John"));
+        cache.getResponse("list", taskList, this::list);
+        taskList.mark(0);
+        cache.getResponse("list", taskList, this::list);
+        taskList.unmark(0);
+        cache.getResponse("list", taskList, this::list);
+        taskList.remove(1);
+        String response = cache.getResponse("list", taskList, this::list);
+
+        assertEquals(ListCommand.execute(taskList), response);
+        assertEquals(5, builds);
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void getResponse_overCapacity_evictsLeastRecentlyUsed() throws PiggyException {
+        ResponseCache cache = new ResponseCache(2);
+        cache.getResponse("find milk", taskList, this::list);
+        cache.getResponse("find buy", taskList, this::list);
+        cache.getResponse("find milk", taskList, this::list);
+        cache.getResponse("find john", taskList, this::list); // Evicts "find buy"
+        cache.getResponse("find milk", taskList, this::list);
+        cache.getResponse("find buy", taskList, this::list);
+
+        assertEquals(4, builds);
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    void getResponse_failedCommand_notRemembered() {
+        ResponseCache cache = new ResponseCache(4);
+        for (int i = 0; i < 2; i++) {
+            assertThrows(PiggyException.class, () -> cache.getResponse("agenda for 1/13/2025", taskList,
+                    () -> DayPlan.execute("agenda for 1/13/2025", taskList)));
+        }
+        assertEquals(2, cache.getMisses());
+    }
+
+    private String list() {
+        builds++;
+        return ListCommand.execute(taskList);
+    }
+}
@@ -9,15 +9,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import exception.PiggyException;
-import tasks.Task;
+import tasks.TaskLayout;
+import tasks.TaskList;
 import tasks.ToDo;
 
 public class UnmarkTest {
-    private ArrayList<Task> taskList;
+    private TaskList taskList;
 
     @BeforeEach
     void setUp() {
-        taskList = new ArrayList<>();
+        taskList = new TaskList();
     }
 
 
@@ -56,4 +57,14 @@ public class UnmarkTest {
                         + "\nI've unmarked the task:\n  [T][ ] Buy pen",
                 Unmark.execute("unmark 1", taskList));
     }
+
+    @Test
+    void execute_unmarkSuccessColumnar() throws PiggyException {
+        taskList = new TaskList(new ArrayList<>(), TaskLayout.COLUMNAR);
+        taskList.add(new ToDo("Buy pen"));
+        Mark.execute("mark 1", taskList);
+        assertEquals("Oops, no problem."
+                        + "\nI've unmarked the task:\n  [T][ ] Buy pen",
+                Unmark.execute("unmark 1", taskList));
+    }
 }
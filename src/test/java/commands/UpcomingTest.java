@@ -0,0 +1,58 @@
+package commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.TaskList;
+import tasks.ToDo;
+
+public class UpcomingTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 2, 14, 12, 0);
+    private TaskList taskList;
+
+    @BeforeEach
+    void setUp() throws PiggyException {
+        taskList = new TaskList();
+        taskList.add(new Deadline("Pay rent", NOW.minusDays(2)));
+        taskList.add(new ToDo("Buy milk"));
+        taskList.add(new Event("Team meeting", NOW.plusHours(2), NOW.plusHours(3)));
+        taskList.add(new Deadline("Submit report", NOW.plusHours(1)));
+        taskList.add(new Deadline("File taxes", NOW.minusHours(1)));
+    }
+
+    @Test
+    void overdue_listsPastDeadlinesEarliestFirst() {
+        assertEquals("These 2 deadlines have passed, earliest first:\n"
+                + "1. " + taskList.get(0) + "\n2. " + taskList.get(4), Upcoming.overdue(taskList, NOW));
+        taskList.mark(0);
+        taskList.mark(4);
+        assertEquals("Nothing is overdue. Great job staying on top of things!", Upcoming.overdue(taskList, NOW));
+    }
+
+    @Test
+    void next_listsSoonestUndoneTasks() throws PiggyException {
+        assertEquals("Here are the next 2 things coming up:\n1. " + taskList.get(3) + "\n2. " + taskList.get(2),
+                Upcoming.next("next", taskList, NOW));
+        assertEquals("Here's what's coming up next:\n1. " + taskList.get(3), Upcoming.next("next 1", taskList, NOW));
+        taskList.mark(3);
+        assertEquals("Here's what's coming up next:\n1. " + taskList.get(2), Upcoming.next("next", taskList, NOW));
+        taskList.unmark(3);
+        assertEquals("Here's what's coming up next:\n1. " + taskList.get(3), Upcoming.next("next 1", taskList, NOW));
+        assertEquals("Nothing is coming up. Enjoy the calm!", Upcoming.next("next", taskList, NOW.plusDays(1)));
+    }
+
+    @Test
+    void next_invalidCount_throws() {
+        assertThrows(PiggyException.class, () -> Upcoming.next("next 0", taskList, NOW));
+        assertThrows(PiggyException.class, () -> Upcoming.next("next few", taskList, NOW));
+        assertThrows(PiggyException.class, () -> Upcoming.next("next 1 2", taskList, NOW));
+    }
+}
@@ -1,6 +1,14 @@
 package piggyplanner;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -79,4 +87,44 @@ public class PiggyPlannerTest {
         assert (response.contains("Team meeting"));
     }
 
+    @Test
+    void runBatch_allSucceed_savedTogether() throws PiggyException {
+        List<String> responses = piggyPlanner.runBatch(List.of("todo Buy milk", "", "mark 2", "list"));
+        assertEquals(3, responses.size());
+        assertTrue(responses.get(2).contains("[X] Buy milk"));
+        assertTrue(new PiggyPlanner().getResponse("list").contains("[X] Buy milk")); // Reloaded from disk
+    }
+
+    @Test
+    void runBatch_oneFails_rollsBackEverything() throws PiggyException {
+        piggyPlanner.getResponse("todo Call mom");
+        piggyPlanner.getResponse("mark 2");
+        String before = piggyPlanner.getResponse("list");
+
+        PiggyException e = assertThrows(PiggyException.class, () -> piggyPlanner.runBatch(
+                List.of("todo Buy milk", "delete 1", "unmark 1", "delete 1", "mark 5")));
+        assertTrue(e.getMessage().startsWith("Line 5 of the batch failed, so none of it was saved:\n mark 5"));
+        assertEquals(before, piggyPlanner.getResponse("list"));
+        assertEquals(before, new PiggyPlanner().getResponse("list")); // Nothing of the batch reached the disk
+    }
+
+    @Test
+    void getLoadWarnings_corruptedEntry_describesIt() throws Exception {
+        assertEquals(null, piggyPlanner.getLoadWarnings());
+        Files.writeString(Paths.get("data/taskList.txt"), "not a task" + System.lineSeparator());
+        String warnings = new PiggyPlanner().getLoadWarnings();
+        assertTrue(warnings.contains("Skipping corrupted entry - not a task"));
+    }
+
+    @Test
+    void getResponse_batchThenEnd_runsCollectedCommands() {
+        assertTrue(piggyPlanner.getResponse("batch").startsWith("Batch mode on!"));
+        assertTrue(piggyPlanner.isCollectingBatch());
+        assertEquals("Got it! 1 command is waiting for \"end\".", piggyPlanner.getResponse("todo Buy milk"));
+        piggyPlanner.getResponse("bye");
+        String response = piggyPlanner.getResponse("end");
+        assertTrue(response.contains("\"bye\" can't be used inside a batch."));
+        assertFalse(piggyPlanner.isCollectingBatch());
+        assertFalse(piggyPlanner.getResponse("list").contains("Buy milk"));
+    }
 }
@@ -0,0 +1,56 @@
+package query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Task;
+import tasks.ToDo;
+
+public class QueryParserTest {
+    private static final Deadline REPORT = new Deadline("Submit report", LocalDateTime.of(2025, 12, 1, 9, 0));
+    private static final ToDo SLIDES = new ToDo("Make slides", true);
+
+    @Test
+    void parse_orBindsTighterThanImplicitAnd() throws PiggyException {
+        Predicate<Task> query = QueryParser.parse("status:undone \"report\" OR \"slides\"").toPredicate();
+        assertTrue(query.test(REPORT));
+        assertFalse(query.test(SLIDES));
+        assertTrue(QueryParser.parse("status:done OR report").toPredicate().test(SLIDES));
+    }
+
+    @Test
+    void parse_dueComparisons() throws PiggyException {
+        assertTrue(QueryParser.parse("due:1/12/2025").toPredicate().test(REPORT));
+        assertTrue(QueryParser.parse("due<=1/12/2025").toPredicate().test(REPORT));
+        assertFalse(QueryParser.parse("due<1/12/2025").toPredicate().test(REPORT));
+        assertTrue(QueryParser.parse("due>30/11/2025").toPredicate().test(REPORT));
+        assertFalse(QueryParser.parse("due>1/12/2025").toPredicate().test(REPORT));
+        assertFalse(QueryParser.parse("due>=1/1/2020").toPredicate().test(SLIDES));
+    }
+
+    @Test
+    void parse_notGroupsAndPhrases() throws PiggyException {
+        assertTrue(QueryParser.parse("NOT (type:todo OR type:event)").toPredicate().test(REPORT));
+        assertTrue(QueryParser.parse("\"mit rep\"").toPredicate().test(REPORT));
+        assertTrue(QueryParser.parse("\"OR\"").toPredicate().test(REPORT));
+        assertTrue(QueryParser.parse("10:00 OR slides").toPredicate().test(SLIDES));
+    }
+
+    @Test
+    void parse_malformedQueries_throw() {
+        String[] queries = {"", "(report", "report)", "report OR", "\"report", "status:maybe", "type:note",
+            "due<1/13/2025", "status<done", "\"\"", "due:"};
+        for (String query : queries) {
+            assertThrows(PiggyException.class, () -> QueryParser.parse(query), query);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.Task;
+import tasks.TaskLayout;
+import tasks.TaskList;
+import tasks.ToDo;
+
+public class QueryPlanTest {
+    private static final String[] WORDS = {"read", "report", "slides", "team", "buy"};
+    private static final LocalDateTime START = LocalDateTime.of(2025, 11, 1, 0, 0);
+
+    private TaskList taskList;
+
+    @BeforeEach
+    void setUp() throws PiggyException {
+        Random random = new Random(15);
+        taskList = new TaskList();
+        for (int i = 0; i < 500; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            LocalDateTime time = START.plusHours(random.nextInt(24 * 60));
+            switch (random.nextInt(3)) {
+            case 0:
+                taskList.add(new ToDo(name, random.nextBoolean()));
+                break;
+            case 1:
+                taskList.add(new Deadline(name, time, random.nextBoolean()));
+                break;
+            default:
+                taskList.add(new Event(name, time, time.plusHours(random.nextInt(72)), random.nextBoolean()));
+                break;
+            }
+        }
+    }
+
+    @Test
+    void plan_picksCheapestIndex() throws PiggyException {
+        assertEquals("due date index", planOf("report due:5/11/2025").describeAccess());
+        assertEquals("event index", planOf("during:5/11/2025 status:undone").describeAccess());
+        assertEquals("status index", planOf("status:undone \"report\" OR \"slides\"").describeAccess());
+        assertEquals("keyword index", planOf("status:undone read team").describeAccess());
+        assertEquals("due date index", planOf("read team due<5/11/2025").describeAccess());
+        assertEquals("keyword index", planOf("read 42 due<25/11/2025").describeAccess());
+        assertEquals("status index", planOf("status:done type:todo").describeAccess());
+        assertEquals("full scan", planOf("NOT report").describeAccess());
+    }
+
+    @Test
+    void plan_estimatesCostsFromIndexSizes() throws PiggyException {
+        taskList = new TaskList();
+        for (int i = 0; i < 10; i++) {
+            taskList.add(new ToDo("report " + i));
+        }
+        taskList.add(new ToDo("read"));
+        assertEquals("keyword index", planOf("status:undone read").describeAccess());
+        assertEquals("status index", planOf("status:done report").describeAccess());
+
+        taskList.mark(0);
+        assertEquals("status index", planOf("status:done report").describeAccess());
+        assertEquals(List.of(taskList.get(0)), planOf("status:done report").execute(taskList));
+        taskList.unmark(0);
+        assertEquals(List.of(), planOf("status:done report").execute(taskList));
+        taskList.mark(1);
+        taskList.remove(1);
+        assertEquals(List.of(), planOf("status:done report").execute(taskList));
+    }
+
+    @Test
+    void execute_matchesFullScan() throws PiggyException {
+        String[] queries = {
+            "status:undone type:deadline due<20/11/2025 \"report\" OR \"slides\"",
+            "report due:5/11/2025",
+            "during:5/11/2025 OR due:6/11/2025",
+            "(read OR buy) NOT type:event",
+            "\"read report\" status:done",
+            "read team due>=10/11/2025",
+            "type:event during:30/11/2025 ~reed",
+            "due>25/11/2025 AND due<=28/11/2025",
+            "status:done",
+            "status:undone type:todo",
+            "NOT status:done read",
+        };
+        for (String query : queries) {
+            QueryNode root = QueryParser.parse(query);
+            List<Task> expected = taskList.getAllTasks().stream()
+                    .filter(root.toPredicate())
+                    .collect(Collectors.toList());
+            assertEquals(expected, QueryPlan.plan(root, taskList).execute(taskList), query);
+            TaskList columnarList = new TaskList(new ArrayList<>(taskList.getAllTasks()), TaskLayout.COLUMNAR);
+            assertEquals(expected, QueryPlan.plan(root, columnarList).execute(columnarList), query);
+        }
+    }
+
+    private QueryPlan planOf(String query) throws PiggyException {
+        return QueryPlan.plan(QueryParser.parse(query), taskList);
+    }
+}
@@ -0,0 +1,85 @@
+package storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.Task;
+import tasks.ToDo;
+
+public class BinarySnapshotTest {
+    @Test
+    void write_thenRead_restoresSameTasks() throws Exception {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("Buy milk", true));
+        tasks.add(new Deadline("Submit report", LocalDateTime.of(2025, 2, 18, 23, 59)));
+        tasks.add(new Event("Team meeting", LocalDateTime.of(2025, 2, 19, 10, 0),
+                LocalDateTime.of(2025, 2, 19, 12, 0)));
+        tasks.add(new ToDo("Buy milk"));
+
+        Path file = Files.createTempFile("snapshot", ".bin");
+        BinarySnapshot.write(tasks, file);
+        ArrayList<Task> loaded = BinarySnapshot.read(file, new LoadReport());
+
+        assertEquals(true, BinarySnapshot.isBinary(file));
+        assertEquals(tasks.size(), loaded.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toString(), loaded.get(i).toString());
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    void isBinary_textFile_returnsFalse() throws Exception {
+        Path file = Files.createTempFile("snapshot", ".txt");
+        Files.writeString(file, "  | T: Buy milk | --\n");
+        assertEquals(false, BinarySnapshot.isBinary(file));
+        Files.delete(file);
+    }
+
+    @Test
+    void epochMinute_roundTrips() throws PiggyException {
+        LocalDateTime time = LocalDateTime.of(2025, 2, 18, 23, 59);
+        assertEquals(time, BinarySnapshot.fromEpochMinute(BinarySnapshot.toEpochMinute(time)));
+    }
+
+    @Test
+    void read_corruptedNameBounds_skipsRecordWithWarning() throws Exception {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("Buy milk"));
+        tasks.add(new ToDo("Read book"));
+        tasks.add(new ToDo("Walk dog"));
+        Path file = Files.createTempFile("snapshot", ".bin");
+        BinarySnapshot.write(tasks, file);
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        bytes.putInt(BinarySnapshot.HEADER_SIZE + 8, -5); // First record: negative name length
+        int second = BinarySnapshot.HEADER_SIZE + BinarySnapshot.RECORD_SIZE;
+        bytes.putInt(second + 4, Integer.MAX_VALUE); // Second record: name offset past the string table
+        Files.write(file, bytes.array());
+
+        LoadReport report = new LoadReport();
+        ArrayList<Task> loaded = BinarySnapshot.read(file, report);
+
+        assertEquals(1, loaded.size());
+        assertEquals("Walk dog", loaded.get(0).getName());
+        assertEquals(2, report.getWarnings().size());
+        Files.delete(file);
+    }
+
+    @Test
+    void epochMinute_before1970_roundsDown() throws PiggyException {
+        LocalDateTime time = LocalDateTime.of(1969, 12, 31, 23, 59, 30);
+        assertEquals(-1, BinarySnapshot.toEpochMinute(time));
+        assertEquals(time.withSecond(0), BinarySnapshot.fromEpochMinute(BinarySnapshot.toEpochMinute(time)));
+    }
+}
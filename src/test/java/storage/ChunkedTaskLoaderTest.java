@@ -0,0 +1,49 @@
+package storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import tasks.Task;
+
+public class ChunkedTaskLoaderTest {
+    @Test
+    void load_largeFile_keepsFileOrderAndReportsCorruptLines() throws Exception {
+        int lineCount = 20000; // Large enough to be split into several chunks
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            if (i == 12345) {
+                content.append("this line is corrupted\n");
+            }
+            content.append("  | T: Task ").append(i).append(" | --\n");
+        }
+        content.append("X | D: Submit report | by: 18/2/2025 2359"); // No trailing newline
+        Path file = Files.createTempFile("tasks", ".txt");
+        Files.writeString(file, content);
+
+        LoadReport report = new LoadReport();
+        ArrayList<Task> tasks = ChunkedTaskLoader.load(file, report);
+
+        assertEquals(lineCount + 1, tasks.size());
+        for (int i = 0; i < lineCount; i++) {
+            assertEquals("Task " + i, tasks.get(i).getName());
+        }
+        assertEquals("[D][X] Submit report (by: tuesday, feb 18 2025, 11:59pm)", tasks.get(lineCount).toString());
+        assertEquals(1, report.getWarnings().size());
+        assertEquals("Skipping corrupted entry - this line is corrupted", report.getWarnings().get(0));
+        Files.delete(file);
+    }
+
+    @Test
+    void load_emptyFile_returnsNoTasks() throws Exception {
+        Path file = Files.createTempFile("tasks", ".txt");
+        LoadReport report = new LoadReport();
+        assertEquals(0, ChunkedTaskLoader.load(file, report).size());
+        assertEquals(false, report.hasWarnings());
+        Files.delete(file);
+    }
+}
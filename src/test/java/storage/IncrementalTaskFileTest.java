@@ -0,0 +1,96 @@
+package storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Task;
+import tasks.TaskList;
+import tasks.ToDo;
+
+public class IncrementalTaskFileTest {
+    private TaskList taskList;
+    private IncrementalTaskFile taskFile;
+
+    @BeforeEach
+    void setUp() throws PiggyException, IOException {
+        deleteDataFiles(); // Start from a text snapshot, whatever format an earlier test left behind
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("Buy milk"));
+        tasks.add(new Deadline("Submit report", LocalDateTime.of(2025, 2, 18, 23, 59)));
+        tasks.add(new ToDo("Call John"));
+        Storage.updateList(tasks);
+
+        taskFile = new IncrementalTaskFile();
+        taskList = new TaskList(Storage.loadList(new LoadReport()));
+        taskFile.index(taskList.getAllTasks());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        deleteDataFiles();
+    }
+
+    private static void deleteDataFiles() throws IOException {
+        for (String path : List.of(Storage.FILE_PATH, Storage.SNAPSHOT_TEMP_PATH, Storage.JOURNAL_PATH,
+                Storage.ROTATED_JOURNAL_PATH)) {
+            Files.deleteIfExists(Paths.get(path));
+        }
+    }
+
+    @Test
+    void save_markAndAdd_matchesFullRewrite() throws Exception {
+        taskList.mark(1);
+        taskList.add(new ToDo("Water plants"));
+        taskFile.save(taskList);
+        taskList.unmark(1);
+        taskList.mark(3);
+        taskFile.save(taskList);
+
+        assertEquals(format(taskList.getAllTasks()), Files.readString(Paths.get(Storage.FILE_PATH)));
+        assertEquals(0, taskList.getDirtyPositions().length);
+        assertEquals(4, taskList.getSavedSize());
+    }
+
+    @Test
+    void save_afterRemoval_rewritesFile() throws Exception {
+        taskList.mark(2);
+        taskList.remove(0);
+        taskFile.save(taskList);
+        taskList.mark(0);
+        taskFile.save(taskList);
+
+        assertEquals(format(taskList.getAllTasks()), Files.readString(Paths.get(Storage.FILE_PATH)));
+    }
+
+    @Test
+    void save_binarySnapshot_patchesStatusInPlace() throws Exception {
+        BinarySnapshot.write(taskList.getAllTasks(), Paths.get(Storage.FILE_PATH));
+        taskFile.index(taskList.getAllTasks());
+        taskList.mark(0);
+        taskFile.save(taskList);
+
+        List<Task> reloaded = Storage.loadList(new LoadReport());
+        assertEquals("[T][X] Buy milk", reloaded.get(0).toString());
+        assertEquals(3, reloaded.size());
+    }
+
+    private static String format(List<Task> tasks) {
+        StringBuilder expected = new StringBuilder();
+        for (Task task : tasks) {
+            expected.append(Storage.formatTask(task)).append(System.lineSeparator());
+        }
+        return expected.toString();
+    }
+}
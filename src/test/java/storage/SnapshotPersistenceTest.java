@@ -0,0 +1,71 @@
+package storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.Task;
+import tasks.TaskList;
+import tasks.ToDo;
+
+public class SnapshotPersistenceTest {
+    @BeforeEach
+    void setUp() throws PiggyException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("Buy milk"));
+        tasks.add(new Deadline("Submit report", LocalDateTime.of(2025, 2, 18, 23, 59)));
+        Storage.updateList(tasks); // Start from a text snapshot with no journal
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(Paths.get(Storage.FILE_PATH));
+    }
+
+    @Test
+    void commit_batched_writesChangesOnFlush() throws PiggyException {
+        SnapshotPersistence persistence = new SnapshotPersistence(Durability.BATCHED, 60_000);
+        TaskList taskList = new TaskList(persistence.load(new LoadReport()));
+        taskList.addListener(persistence);
+
+        taskList.mark(1);
+        taskList.add(new Event("Team meeting", LocalDateTime.of(2025, 2, 19, 10, 0),
+                LocalDateTime.of(2025, 2, 19, 12, 0)));
+        persistence.commit(taskList);
+        taskList.unmark(1);
+        taskList.remove(0);
+        taskList.add(new ToDo("Call John"));
+        persistence.commit(taskList);
+        taskList.mark(0);
+        persistence.discard(taskList); // Dropped, as if a batch had failed and been undone
+        taskList.unmark(0);
+        assertEquals(2, Storage.loadList(new LoadReport()).size()); // Nothing written before the flush
+
+        persistence.flush();
+        assertEquals(describe(taskList.getAllTasks()), describe(Storage.loadList(new LoadReport())));
+        taskList.mark(2);
+        persistence.commit(taskList);
+        persistence.close();
+        assertEquals(describe(taskList.getAllTasks()), describe(Storage.loadList(new LoadReport())));
+    }
+
+    private static List<String> describe(List<Task> tasks) {
+        List<String> descriptions = new ArrayList<>();
+        for (Task task : tasks) {
+            descriptions.add(task.toString());
+        }
+        return descriptions;
+    }
+}
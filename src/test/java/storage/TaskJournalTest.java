@@ -0,0 +1,160 @@
+package storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Task;
+import tasks.TaskList;
+import tasks.ToDo;
+
+public class TaskJournalTest {
+    private TaskList taskList;
+    private TaskJournal journal;
+
+    @BeforeEach
+    void setUp() throws PiggyException {
+        Storage.updateList(new ArrayList<>()); // Start from an empty snapshot with no journal
+        journal = new TaskJournal(TaskJournal.DEFAULT_COMPACTION_THRESHOLD);
+        taskList = new TaskList(journal.load(new LoadReport()));
+        taskList.addListener(journal);
+    }
+
+    @Test
+    void load_replaysJournalOnTopOfSnapshot() throws PiggyException {
+        taskList.add(new ToDo("Buy milk"));
+        taskList.add(new Deadline("Submit report", LocalDateTime.of(2025, 2, 18, 23, 59)));
+        taskList.add(new ToDo("Call John"));
+        journal.commit(taskList);
+        taskList.mark(1);
+        taskList.remove(0);
+        journal.commit(taskList);
+
+        TaskJournal reloadedJournal = new TaskJournal(TaskJournal.DEFAULT_COMPACTION_THRESHOLD);
+        TaskList reloaded = new TaskList(reloadedJournal.load(new LoadReport()));
+        assertEquals(2, reloaded.size());
+        assertEquals("[D][X] Submit report (by: tuesday, feb 18 2025, 11:59pm)", reloaded.get(0).toString());
+        assertEquals("[T][ ] Call John", reloaded.get(1).toString());
+    }
+
+    @Test
+    void commit_pastThreshold_compactsIntoSnapshot() throws Exception {
+        TaskJournal smallJournal = new TaskJournal(1);
+        TaskList smallList = new TaskList(smallJournal.load(new LoadReport()));
+        smallList.addListener(smallJournal);
+
+        smallList.add(new ToDo("Buy milk"));
+        smallJournal.commit(smallList);
+        smallJournal.close();
+
+        assertEquals(false, Files.exists(Paths.get(Storage.JOURNAL_PATH)));
+        assertEquals(false, Files.exists(Paths.get(Storage.ROTATED_JOURNAL_PATH)));
+        assertEquals(1, Storage.loadList(new LoadReport()).size());
+    }
+
+    @Test
+    void commit_batched_writesOnlyOnFlush() throws PiggyException {
+        TaskJournal batchedJournal = new TaskJournal(TaskJournal.DEFAULT_COMPACTION_THRESHOLD, Durability.BATCHED,
+                60_000);
+        TaskList batchedList = new TaskList(batchedJournal.load(new LoadReport()));
+        batchedList.addListener(batchedJournal);
+
+        batchedList.add(new ToDo("Buy milk"));
+        batchedJournal.commit(batchedList);
+        batchedList.add(new ToDo("Call John"));
+        batchedJournal.commit(batchedList);
+        assertEquals(0, new TaskJournal(TaskJournal.DEFAULT_COMPACTION_THRESHOLD).load(new LoadReport()).size());
+
+        batchedJournal.flush();
+        assertEquals(2, new TaskJournal(TaskJournal.DEFAULT_COMPACTION_THRESHOLD).load(new LoadReport()).size());
+        batchedJournal.close();
+    }
+
+    @Test
+    void close_compactionFailed_mergesRotatedJournalBack() throws Exception {
+        TaskJournal failingJournal = new TaskJournal(1) {
+            @Override
+            void writeSnapshot(ArrayList<Task> snapshot, boolean isBinary) throws IOException {
+                throw new IOException("Disk full");
+            }
+        };
+        TaskList failingList = new TaskList(failingJournal.load(new LoadReport()));
+        failingList.addListener(failingJournal);
+        failingList.add(new ToDo("Buy milk"));
+        failingJournal.commit(failingList); // Rotates the journal and fails in the background
+        failingList.add(new ToDo("Call John"));
+
+        PiggyException e = assertThrows(PiggyException.class, failingJournal::close);
+        assertEquals("Your changes are saved, but compacting the task journal failed: Disk full"
+                + "\nIt will be tried again later.", e.getMessage());
+        assertEquals(false, Files.exists(Paths.get(Storage.ROTATED_JOURNAL_PATH)));
+        assertEquals(false, Files.exists(Paths.get(Storage.SNAPSHOT_TEMP_PATH)));
+        assertEquals(0, Storage.loadList(new LoadReport()).size()); // The snapshot was never replaced
+
+        TaskJournal reloadedJournal = new TaskJournal(1);
+        TaskList reloaded = new TaskList(reloadedJournal.load(new LoadReport()));
+        assertEquals(1, reloaded.size());
+        reloaded.addListener(reloadedJournal);
+        reloaded.add(new ToDo("Call John"));
+        reloadedJournal.commit(reloaded); // Compaction runs again now that the failure is cleaned up
+        reloadedJournal.close();
+        assertEquals(2, Storage.loadList(new LoadReport()).size());
+        assertEquals(false, Files.exists(Paths.get(Storage.JOURNAL_PATH)));
+    }
+
+    @Test
+    void load_badDateOrTornRecord_skipsIt() throws Exception {
+        String buyMilk = "ADD | " + Storage.formatTask(new ToDo("Buy milk")) + System.lineSeparator();
+        String badDate = "ADD |   | D: bad | by: 99/99/2025 1800" + System.lineSeparator();
+        String torn = "ADD |   | D: Submit report | by: 18/2/20";
+        Files.writeString(Paths.get(Storage.JOURNAL_PATH), buyMilk + badDate + torn);
+
+        LoadReport report = new LoadReport();
+        ArrayList<Task> loaded = new TaskJournal(TaskJournal.DEFAULT_COMPACTION_THRESHOLD).load(report);
+        assertEquals(1, loaded.size());
+        assertEquals("[T][ ] Buy milk", loaded.get(0).toString());
+        assertEquals(2, report.getWarnings().size());
+    }
+
+    @Test
+    void snapshotLoad_afterJournalMode_replaysJournal() throws PiggyException {
+        taskList.add(new ToDo("Buy milk"));
+        taskList.add(new ToDo("Call John"));
+        journal.commit(taskList);
+        journal.close();
+
+        SnapshotPersistence snapshot = new SnapshotPersistence();
+        TaskList snapshotList = new TaskList(snapshot.load(new LoadReport()));
+        assertEquals(2, snapshotList.size());
+        assertEquals(false, Files.exists(Paths.get(Storage.JOURNAL_PATH)));
+
+        snapshotList.addListener(snapshot);
+        snapshotList.add(new ToDo("Water plants"));
+        snapshot.commit(snapshotList);
+        snapshot.close();
+        assertEquals(3, new SnapshotPersistence().load(new LoadReport()).size());
+    }
+
+    @Test
+    void load_completeMerge_finishesIt() throws Exception {
+        String buyMilk = "ADD | " + Storage.formatTask(new ToDo("Buy milk")) + System.lineSeparator();
+        String callJohn = "ADD | " + Storage.formatTask(new ToDo("Call John")) + System.lineSeparator();
+        Files.writeString(Paths.get(Storage.ROTATED_JOURNAL_PATH), buyMilk);
+        Files.writeString(Paths.get(Storage.MERGED_JOURNAL_PATH), buyMilk + callJohn);
+        Files.writeString(Paths.get(Storage.JOURNAL_PATH), callJohn);
+
+        assertEquals(2, new TaskJournal(TaskJournal.DEFAULT_COMPACTION_THRESHOLD).load(new LoadReport()).size());
+        assertEquals(false, Files.exists(Paths.get(Storage.MERGED_JOURNAL_PATH)));
+        assertEquals(false, Files.exists(Paths.get(Storage.ROTATED_JOURNAL_PATH)));
+    }
+}
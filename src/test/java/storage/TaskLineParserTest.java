@@ -0,0 +1,147 @@
+package storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.Task;
+import tasks.ToDo;
+
+public class TaskLineParserTest {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+    private static final String[] LINES = {
+        "X | T: Buy milk | --",
+        "  | T: Buy milk | --",
+        "X | D: Submit report | by: 18/2/2025 2359",
+        "  | E: Team meeting | from: 19/2/2025 1000, to: 19/2/2025 1200",
+        "X | E: Team meeting | from: 19/2/2025 1200, to: 19/2/2025 1000",
+        "X | D: Leap day | by: 31/2/2024 0800",
+        "X | D: Midnight | by: 1/1/2025 2400",
+        "X | D: Padded | by: 01/02/2025 0930",
+        "X | D: Bad month | by: 1/13/2025 0930",
+        "X | D: No year | by: 1/1/0000 0930",
+        "X | D: Wrong prefix | due: 1/1/2025 0930",
+        "X | T: Name: with colon | --",
+        "X | T:: empty | --",
+        "X | T: | --",
+        "X | :T | --",
+        "X | Q: Unknown | --",
+        "X | T Buy milk | --",
+        "X | T: a | ",
+        "X | T: a |  | ",
+        "X | T: a |  | x",
+        "X | T: a | b | c",
+        "X | T: a",
+        "",
+        "garbage",
+        " | T: leading | --",
+        "X | E: Only start | from: 1/1/2025 0900",
+        "X | E: Two ends | from: 1/1/2025 0900, to: 1/1/2025 1000, to: 2/1/2025 1000",
+        "X | E: Empty end | from: 1/1/2025 0900, to: , to: 2/1/2025 1000",
+        "X | D:   Spaced   name   | by:   5/6/2025 1015  ",
+    };
+
+    @Test
+    void parse_matchesLegacyParser_onEdgeCases() {
+        for (String line : LINES) {
+            assertEquals(describeLegacy(line), describeNew(line), line);
+        }
+    }
+
+    @Test
+    void parse_matchesLegacyParser_onRandomLines() {
+        Random random = new Random(42);
+        String alphabet = "XTDE: |/,0123456789bytofrm";
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder line = new StringBuilder(LINES[random.nextInt(LINES.length)]);
+            int edits = random.nextInt(4);
+            for (int j = 0; j < edits && line.length() > 0; j++) {
+                int position = random.nextInt(line.length());
+                if (random.nextBoolean()) {
+                    line.setCharAt(position, alphabet.charAt(random.nextInt(alphabet.length())));
+                } else {
+                    line.deleteCharAt(position);
+                }
+            }
+            assertEquals(describeLegacy(line.toString()), describeNew(line.toString()), line.toString());
+        }
+    }
+
+    private static String describeNew(String line) {
+        LoadReport report = new LoadReport();
+        try {
+            return describe(TaskLineParser.parse(line, 0, line.length(), report), report);
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    private static String describeLegacy(String line) {
+        LoadReport report = new LoadReport();
+        try {
+            return describe(legacyParse(line, report), report);
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    private static String describe(Task task, LoadReport report) {
+        return task == null ? String.valueOf(report.getWarnings()) : task.toString();
+    }
+
+    /**
+     * The split-based parser that TaskLineParser replaced, kept as a reference.
+     */
+    private static Task legacyParse(String line, LoadReport report) {
+        String[] taskParts = line.split(" \\| ");
+        if (taskParts.length < 3) {
+            report.addWarning("Skipping corrupted entry - " + line);
+            return null;
+        }
+        boolean isDone = taskParts[0].trim().equals("X");
+        String typeAndName = taskParts[1].trim();
+        if (!typeAndName.contains(":")) {
+            report.addWarning("Skipping malformed task entry - " + line);
+            return null;
+        }
+        String[] typeSplit = typeAndName.split(":");
+        if (typeSplit.length < 2) {
+            report.addWarning("Skipping invalid task format - " + line);
+            return null;
+        }
+        String type = typeSplit[0].trim();
+        String description = typeSplit[1].trim();
+        String timeInfo = taskParts[2].trim();
+        try {
+            switch (type) {
+            case "T":
+                return new ToDo(description, isDone);
+            case "D":
+                if (!timeInfo.startsWith("by: ")) {
+                    throw new PiggyException("Invalid time format for deadline - " + line);
+                }
+                return new Deadline(description, LocalDateTime.parse(timeInfo.substring(4).trim(), FORMATTER), isDone);
+            case "E":
+                if (!timeInfo.startsWith("from: ") || !timeInfo.contains(", to: ")) {
+                    throw new PiggyException("Invalid time format for event - " + line);
+                }
+                String[] eventParts = timeInfo.split(", to: ");
+                return new Event(description, LocalDateTime.parse(eventParts[0].substring(6).trim(), FORMATTER),
+                        LocalDateTime.parse(eventParts[1].trim(), FORMATTER), isDone);
+            default:
+                report.addWarning("Unknown task type in file: " + type);
+                return null;
+            }
+        } catch (PiggyException e) {
+            report.addWarning("Skipping invalid entry - " + line);
+            return null;
+        }
+    }
+}
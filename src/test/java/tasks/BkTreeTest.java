@@ -0,0 +1,56 @@
+package tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+    @Test
+    void editDistance_typicalTypos() {
+        assertEquals(0, BkTree.editDistance("milk", "milk"));
+        assertEquals(1, BkTree.editDistance("milk", "mlk"));
+        assertEquals(2, BkTree.editDistance("meeting", "meetnig"));
+        assertEquals(3, BkTree.editDistance("kitten", "sitting"));
+        assertEquals(4, BkTree.editDistance("", "book"));
+    }
+
+    @Test
+    void findWithin_randomWords_matchesBruteForce() {
+        Random random = new Random(13);
+        BkTree tree = new BkTree();
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String word = randomWord(random);
+            if (tree.add(word)) {
+                words.add(word);
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            String query = randomWord(random);
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                TreeSet<String> expected = new TreeSet<>();
+                for (String word : words) {
+                    if (BkTree.editDistance(word, query) <= maxDistance) {
+                        expected.add(word);
+                    }
+                }
+                assertEquals(expected, new TreeSet<>(tree.findWithin(query, maxDistance)));
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,107 @@
+package tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+
+public class ColumnarTaskStoreTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void columnarLayout_randomOperations_matchesObjectLayout() throws PiggyException {
+        Random random = new Random(7);
+        TaskList objects = new TaskList(new ArrayList<>(), TaskLayout.OBJECTS);
+        TaskList columns = new TaskList(new ArrayList<>(), TaskLayout.COLUMNAR);
+
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(10);
+            if (objects.size() > 0 && operation == 0) {
+                int index = random.nextInt(objects.size());
+                assertEquals(objects.remove(index), columns.remove(index));
+            } else if (objects.size() > 0 && operation <= 2) {
+                int index = random.nextInt(objects.size());
+                if (random.nextBoolean()) {
+                    objects.mark(index);
+                    columns.mark(index);
+                } else {
+                    objects.unmark(index);
+                    columns.unmark(index);
+                }
+            } else {
+                Task task = randomTask(random, i);
+                assertEquals(objects.isDuplicateTask(task), columns.isDuplicateTask(task));
+                objects.add(task);
+                columns.add(task);
+            }
+        }
+
+        assertEquals(objects.size(), columns.size());
+        for (int i = 0; i < objects.size(); i++) {
+            assertEquals(objects.get(i).toString(), columns.describe(i));
+            assertEquals(objects.get(i).toString(), columns.get(i).toString());
+        }
+        assertEquals(objects.findByName(name -> name.contains("7")), columns.findByName(name -> name.contains("7")));
+        for (int day = 0; day < 40; day++) {
+            LocalDate date = BASE.toLocalDate().plusDays(day);
+            LocalDateTime from = date.atStartOfDay();
+            LocalDateTime to = date.atTime(LocalTime.MAX);
+            assertEquals(objects.getDeadlinesBetween(from, to), columns.getDeadlinesBetween(from, to));
+            assertEquals(objects.getEventsOverlapping(from, to), columns.getEventsOverlapping(from, to));
+        }
+        for (int hour = 0; hour < 24 * 40; hour += 37) {
+            LocalDateTime now = BASE.plusHours(hour).plusSeconds(30);
+            assertEquals(objects.getOverdueDeadlines(now).toString(), columns.getOverdueDeadlines(now).toString());
+            assertEquals(objects.getUpcoming(now, 15).toString(), columns.getUpcoming(now, 15).toString());
+        }
+    }
+
+    @Test
+    void get_columnarView_isCopy() {
+        TaskList columns = new TaskList(new ArrayList<>(), TaskLayout.COLUMNAR);
+        columns.add(new ToDo("Buy milk"));
+        columns.get(0).mark();
+        assertEquals("[T][ ] Buy milk", columns.describe(0));
+        columns.mark(0);
+        assertEquals("[T][X] Buy milk", columns.get(0).toString());
+    }
+
+    @Test
+    void isDuplicateTask_columnar_followsRemovals() {
+        TaskList columns = new TaskList(new ArrayList<>(), TaskLayout.COLUMNAR);
+        columns.add(new ToDo("Buy milk"));
+        columns.add(new ToDo("Read book"));
+        columns.add(new ToDo("Buy milk"));
+        columns.mark(2);
+        assertTrue(columns.isDuplicateTask(new ToDo("Buy milk")));
+        assertFalse(columns.isDuplicateTask(new ToDo("Buy bread")));
+
+        columns.remove(0);
+        assertTrue(columns.isDuplicateTask(new ToDo("Buy milk")));
+        columns.remove(1);
+        assertFalse(columns.isDuplicateTask(new ToDo("Buy milk")));
+        assertTrue(columns.isDuplicateTask(new ToDo("Read book")));
+    }
+
+    private static Task randomTask(Random random, int id) throws PiggyException {
+        String name = "task " + random.nextInt(id + 1);
+        LocalDateTime start = BASE.plusMinutes(random.nextInt(60 * 24 * 30));
+        switch (random.nextInt(3)) {
+        case 0:
+            return new ToDo(name);
+        case 1:
+            return new Deadline(name, start);
+        default:
+            return new Event(name, start, start.plusMinutes(random.nextInt(60 * 24 * 3)));
+        }
+    }
+}
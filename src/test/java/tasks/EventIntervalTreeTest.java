@@ -0,0 +1,53 @@
+package tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+
+public class EventIntervalTreeTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void getEventsOverlapping_randomAddsAndRemoves_matchesLinearScan() throws PiggyException {
+        Random random = new Random(42);
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 2000; i++) {
+            if (taskList.size() > 0 && random.nextInt(4) == 0) {
+                taskList.remove(random.nextInt(taskList.size()));
+                continue;
+            }
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(60 * 24 * 90));
+            if (random.nextBoolean()) {
+                taskList.add(new Event("event " + i, start, start.plusMinutes(random.nextInt(60 * 24 * 5))));
+            } else {
+                taskList.add(new Deadline("deadline " + i, start));
+            }
+        }
+
+        for (int day = 0; day < 100; day++) {
+            LocalDate date = BASE.toLocalDate().plusDays(day);
+            LocalDateTime from = date.atStartOfDay();
+            LocalDateTime to = date.atTime(LocalTime.MAX);
+
+            List<Task> expectedEvents = taskList.getAllTasks().stream()
+                    .filter(task -> task instanceof Event && ((Event) task).includesDate(date))
+                    .collect(Collectors.toList());
+            List<Task> expectedDeadlines = taskList.getAllTasks().stream()
+                    .filter(task -> task instanceof Deadline
+                            && ((Deadline) task).getDueDate().toLocalDate().equals(date))
+                    .collect(Collectors.toList());
+            assertEquals(expectedEvents, new ArrayList<>(taskList.getEventsOverlapping(from, to)));
+            assertEquals(expectedDeadlines, new ArrayList<>(taskList.getDeadlinesBetween(from, to)));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordIndexTest {
+    private static final String[] WORDS = {"Buy", "milk", "read", "BOOK", "bread", "team", "meeting", "ÉCOLE", "go"};
+
+    @Test
+    void findByKeywords_randomNames_matchesLinearScan() {
+        Random random = new Random(11);
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 3000; i++) {
+            if (taskList.size() > 0 && random.nextInt(5) == 0) {
+                taskList.remove(random.nextInt(taskList.size()));
+            } else {
+                taskList.add(new ToDo(randomName(random)));
+            }
+        }
+
+        String[] keywords = {"ead", "MILK", "bo", "go", "école", "x", "e", "~mlik", "~go", "~breed"};
+        for (int i = 0; i < 200; i++) {
+            List<String> query = List.of(keywords[random.nextInt(keywords.length)],
+                    keywords[random.nextInt(keywords.length)]);
+            for (boolean isMatchAll : new boolean[] {false, true}) {
+                List<Task> expected = taskList.getAllTasks().stream()
+                        .filter(task -> KeywordIndex.matches(task.getName(), query, isMatchAll))
+                        .collect(Collectors.toList());
+                assertEquals(expected, new ArrayList<>(taskList.findByKeywords(query, isMatchAll)));
+            }
+        }
+    }
+
+    @Test
+    void findByKeywords_substringsOfWords_matchedThroughTrigrams() {
+        TaskList taskList = new TaskList();
+        ToDo readBook = new ToDo("read book");
+        ToDo banana = new ToDo("Banana aaaa");
+        taskList.add(readBook);
+        taskList.add(banana);
+        taskList.add(new ToDo("bread"));
+
+        assertEquals(List.of(readBook, taskList.get(2)), taskList.findByKeywords(List.of("EAD"), false));
+        assertEquals(List.of(banana), taskList.findByKeywords(List.of("anana"), false));
+        assertEquals(List.of(readBook), taskList.findByKeywords(List.of("oo"), false));
+        assertEquals(List.of(), taskList.findByKeywords(List.of("adbo"), false));
+
+        taskList.remove(1);
+        assertEquals(List.of(), taskList.findByKeywords(List.of("aaa"), false));
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int wordCount = 1 + random.nextInt(4);
+        for (int i = 0; i < wordCount; i++) {
+            name.append(random.nextInt(4) == 0 ? "  " : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return name.toString().trim();
+    }
+}
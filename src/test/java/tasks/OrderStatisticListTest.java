@@ -0,0 +1,42 @@
+package tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderStatisticListTest {
+    @Test
+    void randomOperations_matchArrayList() {
+        Random random = new Random(3);
+        OrderStatisticList<Integer> list = new OrderStatisticList<>();
+        ArrayList<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(4);
+            if (!expected.isEmpty() && operation == 0) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (!expected.isEmpty() && operation == 1) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            }
+        }
+        assertEquals(expected, new ArrayList<>(list));
+    }
+
+    @Test
+    void get_outOfBounds_throws() {
+        OrderStatisticList<String> list = new OrderStatisticList<>();
+        list.add("Buy milk");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+    }
+}
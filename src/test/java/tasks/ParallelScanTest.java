@@ -0,0 +1,52 @@
+package tasks;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelScanTest {
+    private static final String[] WORDS = {"buy", "milk", "read", "book", "bread", "team", "meeting"};
+
+    @Test
+    void filter_aboveThreshold_keepsOrder() {
+        int[] sequential = ParallelScan.filter(50_000, i -> i % 7 == 3, Integer.MAX_VALUE);
+        int[] parallel = ParallelScan.filter(50_000, i -> i % 7 == 3, 1);
+        assertArrayEquals(sequential, parallel);
+        assertEquals(3, parallel[0]);
+    }
+
+    @Test
+    void join_aboveThreshold_matchesSequential() {
+        String sequential = ParallelScan.join(5, 20_000, i -> i + ". row", Integer.MAX_VALUE);
+        assertEquals(sequential, ParallelScan.join(5, 20_000, i -> i + ". row", 1));
+        assertEquals("", ParallelScan.join(3, 3, i -> "row", 1));
+        assertEquals("1\n2", ParallelScan.join(1, 3, String::valueOf, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void findByKeywords_parallelScan_matchesSequentialScan() {
+        Random random = new Random(19);
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            tasks.add(new ToDo(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]));
+        }
+        for (TaskLayout layout : TaskLayout.values()) {
+            TaskList sequential = new TaskList(tasks, layout);
+            TaskList parallel = new TaskList(tasks, layout);
+            parallel.setParallelThreshold(1);
+            for (String keyword : List.of("ea", "milk", "~reed", "x")) {
+                assertEquals(sequential.findByKeywords(List.of(keyword), false),
+                        parallel.findByKeywords(List.of(keyword), false));
+                assertEquals(sequential.findByName(name -> name.contains(keyword)),
+                        parallel.findByName(name -> name.contains(keyword)));
+            }
+            assertEquals(sequential.findMatching(task -> task.getName().startsWith("b")),
+                    parallel.findMatching(task -> task.getName().startsWith("b")));
+        }
+    }
+}
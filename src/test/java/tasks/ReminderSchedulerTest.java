@@ -0,0 +1,133 @@
+package tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exception.PiggyException;
+
+public class ReminderSchedulerTest {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 2, 14, 9, 0);
+    private TestClock clock;
+    private TaskList taskList;
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class TestClock extends Clock {
+        private Instant instant = START.toInstant(ZoneOffset.UTC);
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new TestClock();
+        taskList = new TaskList();
+    }
+
+    @Test
+    void takeDueReminders_leadTimeBeforeDue_remindsOnce() {
+        taskList.add(new Deadline("Submit report", START.plusHours(2)));
+        taskList.add(new ToDo("Buy milk"));
+        ReminderScheduler scheduler = new ReminderScheduler(taskList, Duration.ofMinutes(30), clock);
+        assertEquals(1, scheduler.getPendingCount());
+
+        clock.advance(Duration.ofMinutes(89));
+        assertEquals(List.of(), scheduler.takeDueReminders());
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(List.of("Reminder! This is due in 30 minutes:\n " + taskList.get(0)),
+                scheduler.takeDueReminders());
+        assertEquals(List.of(), scheduler.takeDueReminders());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void takeDueReminders_eventWithinLeadTime_remindsStraightAway() throws PiggyException {
+        ReminderScheduler scheduler = new ReminderScheduler(taskList, Duration.ofMinutes(30), clock);
+        taskList.add(new Event("Team meeting", START.plusMinutes(10), START.plusHours(1)));
+        taskList.add(new Deadline("Already late", START.minusMinutes(1)));
+
+        assertEquals(List.of("Reminder! This starts in 10 minutes:\n " + taskList.get(0)),
+                scheduler.takeDueReminders());
+    }
+
+    @Test
+    void taskListChanges_rescheduleReminders() {
+        ReminderScheduler scheduler = new ReminderScheduler(taskList, Duration.ZERO, clock);
+        taskList.add(new Deadline("First", START.plusMinutes(10)));
+        taskList.add(new Deadline("Second", START.plusMinutes(20)));
+        taskList.add(new Deadline("Third", START.plusMinutes(30)));
+
+        taskList.mark(0);
+        taskList.remove(1);
+        assertEquals(1, scheduler.getPendingCount());
+        taskList.unmark(0);
+        assertEquals(2, scheduler.getPendingCount());
+
+        clock.advance(Duration.ofMinutes(30));
+        List<String> messages = scheduler.takeDueReminders();
+        assertEquals(2, messages.size());
+        assertTrue(messages.get(0).contains("First"));
+        assertTrue(messages.get(1).contains("Third"));
+    }
+
+    @Test
+    void takeDueReminders_manyTimers_allComeDue() {
+        ReminderScheduler scheduler = new ReminderScheduler(taskList, Duration.ZERO, clock);
+        for (int i = 0; i < 100_000; i++) {
+            taskList.add(new Deadline("Task " + i, START.plusMinutes(1 + (i * 7919L) % 100_000)));
+        }
+        for (int i = 0; i < 50_000; i++) {
+            taskList.remove(taskList.size() - 1);
+        }
+        assertEquals(50_000, scheduler.getPendingCount());
+
+        clock.advance(Duration.ofMinutes(100_000));
+        List<String> messages = scheduler.takeDueReminders();
+        assertEquals(50_000, messages.size());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void start_deliversToListeners() throws InterruptedException {
+        ReminderScheduler scheduler = new ReminderScheduler(taskList, Duration.ofMinutes(30),
+                Clock.systemDefaultZone());
+        CountDownLatch delivered = new CountDownLatch(1);
+        scheduler.addListener(message -> delivered.countDown());
+        scheduler.start();
+        taskList.add(new Deadline("Soon", LocalDateTime.now().plusMinutes(5)));
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        scheduler.close();
+    }
+}
@@ -0,0 +1,60 @@
+package tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchRankerTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 2, 10, 12, 0);
+
+    @Test
+    void findTopMatches_rarerKeywordsAndRepeatsRankHigher() {
+        TaskList taskList = new TaskList();
+        ToDo readBook = new ToDo("read book");
+        ToDo readReport = new ToDo("read report");
+        ToDo readReadRead = new ToDo("read read read");
+        taskList.add(readBook);
+        taskList.add(readReport);
+        taskList.add(readReadRead);
+        List<String> keywords = List.of("read", "report");
+
+        List<Task> top = SearchRanker.findTopMatches(taskList, taskList.findByKeywords(keywords, false), keywords,
+                3, NOW);
+
+        assertEquals(List.of(readReport, readReadRead, readBook), top);
+    }
+
+    @Test
+    void findTopMatches_undoneAndNearDeadlinesBoosted() {
+        TaskList taskList = new TaskList();
+        ToDo doneReport = new ToDo("report", true);
+        Deadline laterReport = new Deadline("report", NOW.plusDays(30));
+        Deadline soonReport = new Deadline("report", NOW.plusDays(2));
+        taskList.add(doneReport);
+        taskList.add(laterReport);
+        taskList.add(soonReport);
+        List<String> keywords = List.of("report");
+
+        List<Task> top = SearchRanker.findTopMatches(taskList, taskList.findByKeywords(keywords, false), keywords,
+                3, NOW);
+
+        assertEquals(List.of(soonReport, laterReport, doneReport), top);
+    }
+
+    @Test
+    void findTopMatches_keepsOnlyLimitInListOrderOnTies() {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 50; i++) {
+            taskList.add(new ToDo("task " + i));
+        }
+        List<String> keywords = List.of("task");
+
+        List<Task> top = SearchRanker.findTopMatches(taskList, taskList.findByKeywords(keywords, false), keywords,
+                3, NOW);
+
+        assertEquals(List.of(taskList.get(0), taskList.get(1), taskList.get(2)), top);
+    }
+}
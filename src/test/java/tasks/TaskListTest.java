@@ -1,7 +1,11 @@
 package tasks;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,27 +23,27 @@ public class TaskListTest {
     @Test
     void isDuplicateTask_duplicateToDo() {
         ToDo todo = new ToDo("Buy milk");
-        taskList.getAllTasks().add(todo);
+        taskList.add(todo);
         assert taskList.isDuplicateTask(new ToDo("Buy milk"));
     }
 
     @Test
     void isDuplicateTask_nonDuplicateToDo() {
-        taskList.getAllTasks().add(new ToDo("Buy milk"));
+        taskList.add(new ToDo("Buy milk"));
         assert !taskList.isDuplicateTask(new ToDo("Call mom"));
     }
 
     @Test
     void isDuplicateTask_duplicateDeadline() {
         Deadline deadline = new Deadline("Submit report", LocalDateTime.of(2025, 2, 18, 23, 59));
-        taskList.getAllTasks().add(deadline);
+        taskList.add(deadline);
 
         assert taskList.isDuplicateTask(new Deadline("Submit report", LocalDateTime.of(2025, 2, 18, 23, 59)));
     }
 
     @Test
     void isDuplicateTask_nonDuplicateDeadline() {
-        taskList.getAllTasks().add(new Deadline("Submit report", LocalDateTime.of(2025, 2, 18, 23, 59)));
+        taskList.add(new Deadline("Submit report", LocalDateTime.of(2025, 2, 18, 23, 59)));
 
         assert !taskList.isDuplicateTask(new Deadline("Submit assignment", LocalDateTime.of(2025, 2, 18, 23, 59)));
     }
@@ -48,7 +52,7 @@ public class TaskListTest {
     void isDuplicateTask_duplicateEvent() throws PiggyException {
         Event event = new Event("Team meeting", LocalDateTime.of(2025, 2, 19, 10, 0),
                 LocalDateTime.of(2025, 2, 19, 12, 0));
-        taskList.getAllTasks().add(event);
+        taskList.add(event);
 
         assert taskList.isDuplicateTask(new Event("Team meeting",
                 LocalDateTime.of(2025, 2, 19, 10, 0), LocalDateTime.of(2025, 2, 19, 12, 0)));
@@ -56,10 +60,64 @@ public class TaskListTest {
 
     @Test
     void isDuplicateTask_nonDuplicateEvent() throws PiggyException {
-        taskList.getAllTasks().add(new Event("Team meeting", LocalDateTime.of(2025, 2, 19, 10, 0),
+        taskList.add(new Event("Team meeting", LocalDateTime.of(2025, 2, 19, 10, 0),
                 LocalDateTime.of(2025, 2, 19, 12, 0)));
 
         assert !taskList.isDuplicateTask(new Event("Team lunch",
                 LocalDateTime.of(2025, 2, 19, 12, 0), LocalDateTime.of(2025, 2, 19, 14, 0)));
     }
+
+    @Test
+    void mark_savedTask_tracksDirtyPosition() {
+        TaskList savedList = new TaskList(new ArrayList<>(List.of(new ToDo("Buy milk"), new ToDo("Call mom"))));
+        savedList.mark(1);
+        savedList.mark(1);
+        savedList.add(new ToDo("Water plants"));
+        savedList.mark(2);
+
+        assertArrayEquals(new int[] {1}, savedList.getDirtyPositions());
+        assertEquals(2, savedList.getSavedSize());
+        savedList.markSaved();
+        assertEquals(0, savedList.getDirtyPositions().length);
+        assertEquals(3, savedList.getSavedSize());
+    }
+
+    @Test
+    void isDuplicateTask_removedCopyOfDuplicate_stillDuplicate() {
+        TaskList loadedList = new TaskList(new ArrayList<>(List.of(new ToDo("Buy milk"), new ToDo("Buy milk"))));
+        loadedList.remove(0);
+        assert loadedList.isDuplicateTask(new ToDo("Buy milk"));
+        loadedList.remove(0);
+        assert !loadedList.isDuplicateTask(new ToDo("Buy milk"));
+    }
+
+    @Test
+    void countKeywordMatches_bothLayouts_matchFindByKeywords() {
+        for (TaskLayout layout : TaskLayout.values()) {
+            TaskList layoutList = new TaskList(new ArrayList<>(), layout);
+            layoutList.add(new ToDo("read book"));
+            layoutList.add(new ToDo("bread and reading"));
+            layoutList.add(new ToDo("write report"));
+            layoutList.add(new ToDo("reed"));
+            layoutList.remove(3);
+            for (String keyword : List.of("read", "REA", "~reed", "report", "milk")) {
+                assertEquals(layoutList.findByKeywords(List.of(keyword), false).size(),
+                        layoutList.countKeywordMatches(keyword), keyword);
+            }
+            assertEquals(7 / 3.0, layoutList.getAverageNameLength(), 1e-9);
+        }
+    }
+
+    @Test
+    void hashCode_equalTasks_sameHashCode() throws PiggyException {
+        LocalDateTime start = LocalDateTime.of(2025, 2, 19, 10, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 2, 19, 12, 0);
+        Event event = new Event("Team meeting", start, end);
+        Event markedCopy = new Event("Team meeting", start, end);
+        markedCopy.mark();
+
+        assertEquals(event, markedCopy);
+        assertEquals(event.hashCode(), markedCopy.hashCode());
+        assertEquals(new Deadline("Submit report", end).hashCode(), new Deadline("Submit report", end).hashCode());
+    }
 }
@@ -0,0 +1,73 @@
+package tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskListTransactionTest {
+    private static ArrayList<Task> initialTasks() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(i % 2 == 0 ? new ToDo("task " + i, i % 3 == 0)
+                    : new Deadline("deadline " + i, LocalDateTime.of(2025, 3, 1 + i, 12, 0), i % 3 == 0));
+        }
+        return tasks;
+    }
+
+    private static List<String> describeAll(TaskList taskList) {
+        List<String> descriptions = new ArrayList<>();
+        for (int i = 0; i < taskList.size(); i++) {
+            descriptions.add(taskList.describe(i));
+        }
+        return descriptions;
+    }
+
+    @Test
+    void rollback_randomModifications_restoresList() {
+        Random random = new Random(25);
+        for (TaskLayout layout : TaskLayout.values()) {
+            for (int round = 0; round < 50; round++) {
+                TaskList taskList = new TaskList(initialTasks(), layout);
+                List<String> before = describeAll(taskList);
+                LocalDateTime now = LocalDateTime.of(2025, 3, 10, 0, 0);
+                List<Deadline> overdueBefore = taskList.getOverdueDeadlines(now);
+
+                TaskListTransaction transaction = taskList.beginTransaction();
+                for (int step = 0; step < 15; step++) {
+                    int choice = random.nextInt(4);
+                    if (choice == 0 || taskList.isEmpty()) {
+                        taskList.add(new ToDo("new " + round + " " + step));
+                    } else if (choice == 1) {
+                        taskList.remove(random.nextInt(taskList.size()));
+                    } else if (choice == 2) {
+                        taskList.mark(random.nextInt(taskList.size()));
+                    } else {
+                        taskList.unmark(random.nextInt(taskList.size()));
+                    }
+                }
+                transaction.rollback();
+
+                assertEquals(before, describeAll(taskList));
+                assertEquals(overdueBefore, taskList.getOverdueDeadlines(now));
+            }
+        }
+    }
+
+    @Test
+    void finish_keepsModifications() {
+        TaskList taskList = new TaskList(initialTasks());
+        TaskListTransaction transaction = taskList.beginTransaction();
+        taskList.remove(0);
+        taskList.add(new ToDo("kept"));
+        transaction.finish();
+        taskList.remove(0); // No longer recorded
+
+        assertEquals(19, taskList.size());
+        assertEquals("[T][ ] kept", taskList.describe(18));
+    }
+}